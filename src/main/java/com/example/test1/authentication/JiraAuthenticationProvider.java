@@ -1,29 +1,34 @@
 package com.example.test1.authentication;
 
 import com.example.test1.services.jira.JiraApiService;
+import com.example.test1.services.jwt.CachedJiraUserDetailsService;
+import com.example.test1.services.jwt.JiraUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 public class JiraAuthenticationProvider implements AuthenticationProvider {
 
-    private final UserDetailsService userDetailsService;
+    private final JiraUserDetailsService userDetailsService;
     private final JiraApiService jiraApiService;
+    private final CachedJiraUserDetailsService userCache;
 
     @Autowired
     public JiraAuthenticationProvider(
-            @Qualifier("jiraUserDetailsService") UserDetailsService userDetailsService,
-            JiraApiService jiraApiService) {
+            JiraUserDetailsService userDetailsService,
+            JiraApiService jiraApiService,
+            CachedJiraUserDetailsService userCache) {
         this.userDetailsService = userDetailsService;
         this.jiraApiService = jiraApiService;
+        this.userCache = userCache;
     }
 
     @Override
@@ -31,11 +36,17 @@ public class JiraAuthenticationProvider implements AuthenticationProvider {
         String username = authentication.getName();
         String password = authentication.getCredentials().toString();
 
-        if (jiraApiService.validateCredentials(username, password)) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        // Un seul appel Jira : /myself valide les identifiants et fournit le profil
+        Map<String, Object> myself = jiraApiService.getMyself(username, password);
+
+        if (myself != null) {
+            UserDetails userDetails = userDetailsService.toUserDetails(myself, username);
+            // Connexion = données fraîches de Jira : elles remplacent l'entrée en cache
+            userCache.put(userDetails);
             return new UsernamePasswordAuthenticationToken(
                     userDetails, password, userDetails.getAuthorities());
         } else {
+            userCache.evict(username);
             throw new BadCredentialsException("Identifiants invalides");
         }
     }
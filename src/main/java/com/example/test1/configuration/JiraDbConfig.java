@@ -7,6 +7,7 @@ import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -54,4 +55,16 @@ public class JiraDbConfig {
             @Qualifier("jiraEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
         return new JpaTransactionManager(entityManagerFactory);
     }
+
+    /**
+     * Accès JDBC en lecture seule aux tables de Jira (jiraissue, project...).
+     * Avec MySQL Connector/J, un fetchSize de Integer.MIN_VALUE lit le résultat
+     * en flux ligne par ligne au lieu de le charger entièrement en mémoire.
+     */
+    @Bean(name = "jiraJdbcTemplate")
+    public JdbcTemplate jiraJdbcTemplate(@Qualifier("jiraDataSource") DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        return jdbcTemplate;
+    }
 }
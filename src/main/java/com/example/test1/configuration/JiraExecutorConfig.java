@@ -0,0 +1,54 @@
+package com.example.test1.configuration;
+
+import com.example.test1.services.jira.client.JiraDeadline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Pool de threads dédié aux appels Jira parallélisés (pagination, fan-out)
+ */
+@Configuration
+public class JiraExecutorConfig {
+
+    @Value("${jira.executor.pool-size:16}")
+    private int poolSize;
+
+    @Value("${jira.executor.queue-capacity:500}")
+    private int queueCapacity;
+
+    /**
+     * Remplacé par des threads virtuels dans le profil virtual-threads (VirtualThreadConfig)
+     */
+    @Bean(name = "jiraExecutor")
+    @Profile("!virtual-threads")
+    public ThreadPoolTaskExecutor jiraExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("jira-");
+        // Les tâches gardent l'échéance de la requête qui les a lancées
+        executor.setTaskDecorator(JiraDeadline::wrap);
+        // File pleine : la tâche s'exécute dans le thread appelant plutôt que d'échouer
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Déclarer jiraExecutor désactive l'exécuteur par défaut de Spring Boot ;
+     * on le recrée (propriétés spring.task.execution.*) pour les requêtes
+     * asynchrones Spring MVC (StreamingResponseBody...)
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
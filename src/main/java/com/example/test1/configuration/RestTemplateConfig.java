@@ -1,14 +1,122 @@
 package com.example.test1.configuration;
 
+import com.example.test1.services.jira.client.JiraDeadline;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Client HTTP partagé pour tous les appels à l'API Jira : pool de connexions
+ * keep-alive borné par route, éviction des connexions inactives et timeouts.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${jira.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${jira.http.max-connections-per-route:30}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${jira.http.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${jira.http.read-timeout-ms:15000}")
+    private int readTimeoutMs;
+
+    @Value("${jira.http.pool-timeout-ms:2000}")
+    private int poolTimeoutMs;
+
+    @Value("${jira.http.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${jira.http.idle-eviction-ms:60000}")
+    private long idleEvictionMs;
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager jiraConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        // Revalide une connexion restée inactive avant de la réutiliser
+        connectionManager.setValidateAfterInactivity(2000);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient jiraHttpClient(PoolingHttpClientConnectionManager jiraConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(jiraConnectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .setKeepAliveStrategy(keepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEvictionMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Les intercepteurs déclarés comme beans (disjoncteur, cloison...) sont
+     * appliqués dans l'ordre de leur @Order
+     */
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient jiraHttpClient,
+                                     ObjectProvider<ClientHttpRequestInterceptor> interceptors) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(jiraHttpClient);
+        // Timeouts de chaque appel bornés par l'échéance de la requête d'origine (JiraDeadline)
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(requestConfig());
+            return context;
+        });
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(interceptors.orderedStream().collect(Collectors.toList()));
+        return restTemplate;
+    }
+
+    /**
+     * Expose les statistiques du pool (connexions louées, disponibles, en attente)
+     * sous les métriques httpcomponents.httpclient.pool.*
+     */
+    @Bean
+    public MeterBinder jiraConnectionPoolMetrics(PoolingHttpClientConnectionManager jiraConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(jiraConnectionManager, "jira");
+    }
+
+    /**
+     * Timeouts configurés, réduits au temps restant avant l'échéance du thread courant
+     */
+    private RequestConfig requestConfig() {
+        return RequestConfig.custom()
+                .setConnectTimeout(JiraDeadline.cap(connectTimeoutMs))
+                .setSocketTimeout(JiraDeadline.cap(readTimeoutMs))
+                .setConnectionRequestTimeout(JiraDeadline.cap(poolTimeoutMs))
+                .build();
+    }
+
+    /**
+     * Respecte le Keep-Alive annoncé par Jira, sinon garde la connexion keepAliveMs
+     */
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        return (response, context) -> {
+            long announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return announced > 0 ? Math.min(announced, keepAliveMs) : keepAliveMs;
+        };
     }
 }
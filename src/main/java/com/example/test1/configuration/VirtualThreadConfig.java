@@ -0,0 +1,52 @@
+package com.example.test1.configuration;
+
+import com.example.test1.services.jira.client.JiraDeadline;
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Profil virtual-threads (Java 21+) : les requêtes Tomcat et les appels Jira
+ * parallélisés (jiraExecutor) tournent sur des threads virtuels. Un appel Jira
+ * bloquant ne monopolise plus un thread du pool ; la concurrence vers Jira
+ * reste bornée par les cloisons et le pool de connexions HTTP.
+ * Activation : --spring.profiles.active=virtual-threads
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public ExecutorService jiraVirtualThreadExecutor() {
+        logger.info("🧵 Appels Jira parallélisés sur threads virtuels");
+        return VirtualThreads.newThreadPerTaskExecutor("jira-");
+    }
+
+    /**
+     * Remplace le pool de threads de JiraExecutorConfig (désactivé dans ce profil)
+     */
+    @Bean(name = "jiraExecutor")
+    public ConcurrentTaskExecutor jiraExecutor(ExecutorService jiraVirtualThreadExecutor) {
+        ConcurrentTaskExecutor executor = new ConcurrentTaskExecutor(jiraVirtualThreadExecutor);
+        // Les tâches gardent l'échéance de la requête qui les a lancées
+        executor.setTaskDecorator(JiraDeadline::wrap);
+        return executor;
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            logger.info("🧵 Requêtes Tomcat traitées sur threads virtuels");
+            protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-"));
+        };
+    }
+}
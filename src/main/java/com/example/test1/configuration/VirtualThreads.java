@@ -0,0 +1,40 @@
+package com.example.test1.configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Accès aux threads virtuels (Java 21+) par réflexion : le projet reste
+ * compilé pour Java 8, les threads virtuels ne sont utilisés que si la JVM
+ * d'exécution les fournit.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Exécuteur qui démarre un thread virtuel par tâche, nommés prefix0, prefix1...
+     * @throws IllegalStateException si la JVM ne fournit pas de threads virtuels
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        try {
+            // Thread.ofVirtual().name(prefix, 0).factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            throw new IllegalStateException("Threads virtuels indisponibles sur Java "
+                    + System.getProperty("java.version") + " (Java 21 ou plus requis)", e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Impossible de créer l'exécuteur de threads virtuels", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.test1.configuration;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Client HTTP non bloquant (Reactor Netty) pour les variantes asynchrones des
+ * services Jira : aucun thread n'est occupé pendant l'aller-retour vers Jira.
+ * Mêmes limites de pool et timeouts (jira.http.*) que le RestTemplate.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Value("${jira.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${jira.http.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${jira.http.read-timeout-ms:15000}")
+    private long readTimeoutMs;
+
+    @Value("${jira.http.pool-timeout-ms:2000}")
+    private long poolTimeoutMs;
+
+    @Value("${jira.http.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${jira.http.idle-eviction-ms:60000}")
+    private long idleEvictionMs;
+
+    // Taille maximale d'une réponse Jira mise en mémoire (page de recherche, catalogue)
+    @Value("${jira.http.max-in-memory-size:16777216}")
+    private int maxInMemorySize;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider jiraConnectionProvider() {
+        return ConnectionProvider.builder("jira")
+                .maxConnections(maxConnections)
+                // Les demandes en attente d'une connexion ne bloquent aucun thread
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMillis(poolTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(keepAliveMs))
+                .evictInBackground(Duration.ofMillis(idleEvictionMs))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Les filtres déclarés comme beans (limite de débit, disjoncteur, cloison)
+     * sont appliqués dans l'ordre de leur @Order, comme les intercepteurs du RestTemplate
+     */
+    @Bean
+    public WebClient jiraWebClient(WebClient.Builder builder,
+                                   ConnectionProvider jiraConnectionProvider,
+                                   ObjectProvider<ExchangeFilterFunction> filters) {
+        HttpClient httpClient = HttpClient.create(jiraConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .filters(list -> list.addAll(filters.orderedStream().collect(Collectors.toList())))
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.test1.configuration;
+
+import com.example.test1.filters.RequestDeadlineInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
+
+    public WebMvcConfig(RequestDeadlineInterceptor requestDeadlineInterceptor) {
+        this.requestDeadlineInterceptor = requestDeadlineInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestDeadlineInterceptor).addPathPatterns("/api/**");
+    }
+}
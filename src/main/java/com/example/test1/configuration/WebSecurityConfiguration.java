@@ -38,10 +38,12 @@ public class WebSecurityConfiguration {
                 .and()
                 .csrf().disable()
                 .authorizeHttpRequests()
-                .antMatchers("/signup", "/login", "/api/jira/sync").permitAll()
+                .antMatchers("/signup", "/login", "/login/refresh", "/api/jira/sync").permitAll()
                 .and()
                 .authorizeHttpRequests()
                 .antMatchers("/api/**").authenticated()
+                // Métriques des pools, caches et appels Jira : réservées aux utilisateurs connectés
+                .antMatchers("/actuator/metrics/**").authenticated()
                 .and()
                 .sessionManagement()
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
@@ -3,16 +3,40 @@ package com.example.test1.controllers;
 import com.example.test1.entities.jira.Project;
 import com.example.test1.entities.jira.Issue;
 import com.example.test1.services.jira.ProjectService;
+import com.example.test1.services.jira.IssueFieldSelection;
 import com.example.test1.services.jira.IssueService;
+import com.example.test1.services.jira.JiraHealthProber;
+import com.example.test1.services.jira.JiraHealthStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.Principal;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api")
@@ -21,352 +45,662 @@ public class JiraController {
 
     private static final Logger logger = LoggerFactory.getLogger(JiraController.class);
 
+    private static final String NDJSON = "application/x-ndjson";
+
     @Autowired
     private ProjectService projectService;
 
     @Autowired
     private IssueService issueService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JiraHealthProber healthProber;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${jira.search.batch.max-keys:500}")
+    private int maxBatchKeys;
+
+    // Délai par défaut de chaque partie du tableau de bord
+    @Value("${jira.dashboard.timeout-ms:5000}")
+    private long dashboardTimeoutMs;
+
     // ========== ENDPOINTS PROJETS (existants) ==========
 
+    @JiraTimeout(10000)
     @GetMapping("/jira-projects")
-    public String getJiraProjects() {
-        return projectService.getAllProjects().toString();
+    public CompletableFuture<String> getJiraProjects() {
+        return projectService.getAllProjectsAsync().thenApply(Object::toString);
     }
 
+    /**
+     * Catalogue des projets ; search filtre par clé, nom ou description
+     * (index du catalogue, clés commençant par le terme en premier)
+     */
+    @JiraTimeout(10000)
     @GetMapping("/projects")
-    public ResponseEntity<?> getAllProjects() {
+    public CompletableFuture<ResponseEntity<?>> getAllProjects(@RequestParam(value = "search", required = false) String search) {
         logger.info("📋 Demande de récupération de tous les projets");
 
-        try {
-            List<Project> projects = projectService.getAllProjects();
+        return projectService.searchProjectsAsync(search)
+                .<ResponseEntity<?>>thenApply(projects -> {
+                    List<Map<String, Object>> projectMaps = projects.stream()
+                            .map(this::convertProjectToMap)
+                            .collect(java.util.stream.Collectors.toList());
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Projets récupérés avec succès");
+                    response.put("count", projectMaps.size());
+                    response.put("projects", projectMaps);
+
+                    logger.info("✅ {} projets retournés avec succès", projectMaps.size());
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la récupération des projets", e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la récupération des projets");
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
+    }
 
+    @JiraTimeout(10000)
+    @GetMapping("/projects-admin")
+    public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> getAllProjectsAsAdmin(@RequestParam(value = "search", required = false) String search) {
+        return projectService.searchProjectsAsync(search).thenApply(projects -> {
             List<Map<String, Object>> projectMaps = projects.stream()
                     .map(this::convertProjectToMap)
                     .collect(java.util.stream.Collectors.toList());
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Projets récupérés avec succès");
-            response.put("count", projectMaps.size());
-            response.put("projects", projectMaps);
-
-            logger.info("✅ {} projets retournés avec succès", projectMaps.size());
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la récupération des projets", e);
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la récupération des projets");
-            errorResponse.put("error", e.getMessage());
-
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
-    }
-
-    @GetMapping("/projects-admin")
-    public ResponseEntity<List<Map<String, Object>>> getAllProjectsAsAdmin() {
-        List<Project> projects = projectService.getAllProjects();
-
-        List<Map<String, Object>> projectMaps = projects.stream()
-                .map(this::convertProjectToMap)
-                .collect(java.util.stream.Collectors.toList());
-
-        return ResponseEntity.ok(projectMaps);
+            return ResponseEntity.ok(projectMaps);
+        });
     }
 
     @GetMapping("/projects/health")
-    public ResponseEntity<?> projectsHealthCheck() {
-        logger.info("🏥 Vérification de la santé de la connexion Jira pour les projets");
-
-        try {
-            boolean isHealthy = projectService.validateJiraConfiguration();
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", isHealthy);
-            response.put("message", isHealthy ? "Configuration Jira valide pour les projets" : "Configuration Jira invalide");
-            response.put("timestamp", System.currentTimeMillis());
-
-            HttpStatus status = isHealthy ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
-            return ResponseEntity.status(status).body(response);
-
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la vérification de santé des projets", e);
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la vérification de santé");
-            errorResponse.put("error", e.getMessage());
-
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+    public ResponseEntity<?> projectsHealthCheck(@RequestParam(value = "history", defaultValue = "false") boolean history) {
+        logger.debug("🏥 Vérification de la santé de la connexion Jira pour les projets");
+        return healthResponse(JiraHealthProber.PROJECTS, "Configuration Jira valide pour les projets", history);
     }
 
+    @JiraTimeout(10000)
     @GetMapping("/issues")
-    public ResponseEntity<?> getAllIssues(@RequestParam(defaultValue = "0") int startAt,
-                                          @RequestParam(defaultValue = "50") int maxResults) {
+    public CompletableFuture<ResponseEntity<?>> getAllIssues(@RequestParam(defaultValue = "0") int startAt,
+                                                             @RequestParam(defaultValue = "50") int maxResults,
+                                                             @RequestParam(value = "fields", required = false) String fields) {
         logger.info("🎫 Demande de récupération de tous les tickets (startAt: {}, maxResults: {})", startAt, maxResults);
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+
+        return issueService.getAllIssuesAsync(startAt, maxResults, selection)
+                .<ResponseEntity<?>>thenApply(issues -> {
+                    List<Map<String, Object>> issueMaps = issues.stream()
+                            .map(issue -> convertIssueToMap(issue, selection))
+                            .collect(java.util.stream.Collectors.toList());
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Tickets récupérés avec succès");
+                    response.put("count", issueMaps.size());
+                    response.put("startAt", startAt);
+                    response.put("maxResults", maxResults);
+                    response.put("issues", issueMaps);
+
+                    logger.info("✅ {} tickets retournés avec succès", issueMaps.size());
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la récupération des tickets", e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la récupération des tickets");
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
+    }
 
-        try {
-            List<Issue> issues = issueService.getAllIssues(startAt, maxResults);
-
-            List<Map<String, Object>> issueMaps = issues.stream()
-                    .map(this::convertIssueToMap)
-                    .collect(java.util.stream.Collectors.toList());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Tickets récupérés avec succès");
-            response.put("count", issueMaps.size());
-            response.put("startAt", startAt);
-            response.put("maxResults", maxResults);
-            response.put("issues", issueMaps);
-
-            logger.info("✅ {} tickets retournés avec succès", issueMaps.size());
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la récupération des tickets", e);
+    @JiraTimeout(10000)
+    @GetMapping("/issues/batch")
+    public CompletableFuture<ResponseEntity<?>> getIssuesByKeys(@RequestParam(value = "keys") String keys,
+                                             @RequestParam(value = "fields", required = false) String fields) {
+        logger.info("🔍 Demande de récupération de tickets par clés: {}", keys);
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
 
+        List<String> issueKeys = java.util.Arrays.asList(keys.split(","));
+        if (issueKeys.size() > maxBatchKeys) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la récupération des tickets");
-            errorResponse.put("error", e.getMessage());
-
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            errorResponse.put("message", "Trop de clés demandées (maximum: " + maxBatchKeys + ")");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
+
+        return issueService.getIssuesByKeysAsync(issueKeys, selection)
+                .<ResponseEntity<?>>thenApply(batch -> {
+                    List<Map<String, Object>> issueMaps = batch.getIssues().stream()
+                            .map(issue -> convertIssueToMap(issue, selection))
+                            .collect(java.util.stream.Collectors.toList());
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Tickets récupérés avec succès");
+                    response.put("count", issueMaps.size());
+                    response.put("issues", issueMaps);
+                    response.put("missingKeys", batch.getMissingKeys());
+
+                    logger.info("✅ {} tickets retournés, {} clés manquantes", issueMaps.size(), batch.getMissingKeys().size());
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la récupération des tickets par clés", e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la récupération des tickets par clés");
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
     }
 
+    @JiraTimeout(10000)
     @GetMapping("/issues/{issueKey}")
-    public ResponseEntity<?> getIssueDetails(@PathVariable String issueKey) {
+    public CompletableFuture<ResponseEntity<?>> getIssueDetails(@PathVariable String issueKey,
+                                                                @RequestParam(value = "fields", required = false) String fields) {
         logger.info("🔍 Demande de récupération des détails du ticket: {}", issueKey);
-
-        try {
-            Issue issue = issueService.getIssueDetails(issueKey);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Détails du ticket récupérés avec succès");
-            response.put("issue", convertIssueToMap(issue));
-
-            logger.info("✅ Détails du ticket '{}' retournés avec succès", issue.getSummary());
-            return ResponseEntity.ok(response);
-
-        } catch (RuntimeException e) {
-            logger.error("❌ Erreur lors de la récupération du ticket {}: {}", issueKey, e.getMessage());
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("issueKey", issueKey);
-
-            HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
-            if (e.getMessage().contains("non trouvé")) {
-                status = HttpStatus.NOT_FOUND;
-            }
-
-            return ResponseEntity.status(status).body(errorResponse);
-        }
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+
+        return issueService.getIssueDetailsAsync(issueKey, selection)
+                .<ResponseEntity<?>>thenApply(issue -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Détails du ticket récupérés avec succès");
+                    response.put("issue", convertIssueToMap(issue, selection));
+
+                    logger.info("✅ Détails du ticket '{}' retournés avec succès", issue.getSummary());
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la récupération du ticket {}: {}", issueKey, e.getMessage());
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", e.getMessage());
+                    errorResponse.put("issueKey", issueKey);
+
+                    HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+                    if (e.getMessage() != null && e.getMessage().contains("non trouvé")) {
+                        status = HttpStatus.NOT_FOUND;
+                    }
+
+                    return ResponseEntity.status(status).body(errorResponse);
+                });
     }
 
+    @JiraTimeout(30000)
     @GetMapping("/issues/project/{projectKey}")
-    public ResponseEntity<?> getIssuesByProject(@PathVariable String projectKey) {
+    public CompletableFuture<ResponseEntity<?>> getIssuesByProject(@PathVariable String projectKey,
+                                                                   @RequestParam(value = "fields", required = false) String fields) {
         logger.info("📂 Demande de récupération des tickets du projet: {}", projectKey);
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+
+        return issueService.getIssuesByProjectAsync(projectKey, selection)
+                .<ResponseEntity<?>>thenApply(issues -> {
+                    List<Map<String, Object>> issueMaps = issues.stream()
+                            .map(issue -> convertIssueToMap(issue, selection))
+                            .collect(java.util.stream.Collectors.toList());
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Tickets du projet récupérés avec succès");
+                    response.put("projectKey", projectKey);
+                    response.put("count", issueMaps.size());
+                    response.put("issues", issueMaps);
+
+                    logger.info("✅ {} tickets retournés pour le projet '{}'", issueMaps.size(), projectKey);
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la récupération des tickets du projet {}", projectKey, e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la récupération des tickets du projet");
+                    errorResponse.put("projectKey", projectKey);
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
+    }
 
-        try {
-            List<Issue> issues = issueService.getIssuesByProject(projectKey);
-
-            List<Map<String, Object>> issueMaps = issues.stream()
-                    .map(this::convertIssueToMap)
-                    .collect(java.util.stream.Collectors.toList());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Tickets du projet récupérés avec succès");
-            response.put("projectKey", projectKey);
-            response.put("count", issueMaps.size());
-            response.put("issues", issueMaps);
-
-            logger.info("✅ {} tickets retournés pour le projet '{}'", issueMaps.size(), projectKey);
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la récupération des tickets du projet {}", projectKey, e);
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la récupération des tickets du projet");
-            errorResponse.put("projectKey", projectKey);
-            errorResponse.put("error", e.getMessage());
-
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+    @JiraTimeout(30000)
+    @GetMapping("/issues/projects")
+    public CompletableFuture<ResponseEntity<?>> getIssuesByProjects(@RequestParam(value = "keys") String keys,
+                                                 @RequestParam(value = "grouped", defaultValue = "false") boolean grouped,
+                                                 @RequestParam(value = "fields", required = false) String fields) {
+        logger.info("📂 Demande de récupération des tickets des projets: {}", keys);
+        // Le regroupement a besoin de la clé de projet, même si fields ne la demande pas
+        IssueFieldSelection selection = IssueFieldSelection.parse(grouped && fields != null ? fields + ",projectKey" : fields);
+
+        List<String> projectKeys = java.util.Arrays.asList(keys.split(","));
+
+        return issueService.getIssuesByProjectsAsync(projectKeys, selection)
+                .<ResponseEntity<?>>thenApply(issues -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Tickets des projets récupérés avec succès");
+                    response.put("count", issues.size());
+
+                    if (grouped) {
+                        // Un groupe par projet demandé, dans l'ordre de la demande (vide si aucun ticket)
+                        Map<String, List<Map<String, Object>>> byProject = new java.util.LinkedHashMap<>();
+                        for (String projectKey : projectKeys) {
+                            if (!projectKey.trim().isEmpty()) {
+                                byProject.put(projectKey.trim().toUpperCase(java.util.Locale.ROOT), new java.util.ArrayList<>());
+                            }
+                        }
+                        for (Issue issue : issues) {
+                            byProject.computeIfAbsent(issue.getProjectKey(), key -> new java.util.ArrayList<>())
+                                    .add(convertIssueToMap(issue, selection));
+                        }
+                        response.put("projects", byProject);
+                    } else {
+                        response.put("issues", issues.stream()
+                                .map(issue -> convertIssueToMap(issue, selection))
+                                .collect(java.util.stream.Collectors.toList()));
+                    }
+
+                    logger.info("✅ {} tickets retournés pour les projets {}", issues.size(), keys);
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la récupération des tickets des projets {}", keys, e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la récupération des tickets des projets");
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
     }
 
+    @JiraTimeout(30000)
     @GetMapping("/issues/assignee/{username}")
-    public ResponseEntity<?> getIssuesByAssignee(@PathVariable String username) {
+    public CompletableFuture<ResponseEntity<?>> getIssuesByAssignee(@PathVariable String username,
+                                                                    @RequestParam(value = "fields", required = false) String fields) {
         logger.info("👤 Demande de récupération des tickets assignés à: {}", username);
-
-        try {
-            List<Issue> issues = issueService.getIssuesByAssignee(username);
-
-            List<Map<String, Object>> issueMaps = issues.stream()
-                    .map(this::convertIssueToMap)
-                    .collect(java.util.stream.Collectors.toList());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Tickets assignés récupérés avec succès");
-            response.put("assignee", username);
-            response.put("count", issueMaps.size());
-            response.put("issues", issueMaps);
-
-            logger.info("✅ {} tickets retournés assignés à '{}'", issueMaps.size(), username);
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la récupération des tickets assignés à {}", username, e);
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la récupération des tickets assignés");
-            errorResponse.put("assignee", username);
-            errorResponse.put("error", e.getMessage());
-
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+
+        return issueService.getIssuesByAssigneeAsync(username, selection)
+                .<ResponseEntity<?>>thenApply(issues -> {
+                    List<Map<String, Object>> issueMaps = issues.stream()
+                            .map(issue -> convertIssueToMap(issue, selection))
+                            .collect(java.util.stream.Collectors.toList());
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Tickets assignés récupérés avec succès");
+                    response.put("assignee", username);
+                    response.put("count", issueMaps.size());
+                    response.put("issues", issueMaps);
+
+                    logger.info("✅ {} tickets retournés assignés à '{}'", issueMaps.size(), username);
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la récupération des tickets assignés à {}", username, e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la récupération des tickets assignés");
+                    errorResponse.put("assignee", username);
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
     }
 
+    @JiraTimeout(30000)
     @GetMapping("/issues/status/{status}")
-    public ResponseEntity<?> getIssuesByStatus(@PathVariable String status) {
+    public CompletableFuture<ResponseEntity<?>> getIssuesByStatus(@PathVariable String status,
+                                                                  @RequestParam(value = "fields", required = false) String fields) {
         logger.info("📊 Demande de récupération des tickets avec le statut: {}", status);
-
-        try {
-            List<Issue> issues = issueService.getIssuesByStatus(status);
-
-            List<Map<String, Object>> issueMaps = issues.stream()
-                    .map(this::convertIssueToMap)
-                    .collect(java.util.stream.Collectors.toList());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Tickets par statut récupérés avec succès");
-            response.put("status", status);
-            response.put("count", issueMaps.size());
-            response.put("issues", issueMaps);
-
-            logger.info("✅ {} tickets retournés avec le statut '{}'", issueMaps.size(), status);
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la récupération des tickets par statut {}", status, e);
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la récupération des tickets par statut");
-            errorResponse.put("status", status);
-            errorResponse.put("error", e.getMessage());
-
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+
+        return issueService.getIssuesByStatusAsync(status, selection)
+                .<ResponseEntity<?>>thenApply(issues -> {
+                    List<Map<String, Object>> issueMaps = issues.stream()
+                            .map(issue -> convertIssueToMap(issue, selection))
+                            .collect(java.util.stream.Collectors.toList());
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Tickets par statut récupérés avec succès");
+                    response.put("status", status);
+                    response.put("count", issueMaps.size());
+                    response.put("issues", issueMaps);
+
+                    logger.info("✅ {} tickets retournés avec le statut '{}'", issueMaps.size(), status);
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la récupération des tickets par statut {}", status, e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la récupération des tickets par statut");
+                    errorResponse.put("status", status);
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
     }
 
+    @JiraTimeout(10000)
     @GetMapping("/issues/search")
-    public ResponseEntity<?> searchIssues(@RequestParam(value = "q", required = false) String searchTerm) {
+    public CompletableFuture<ResponseEntity<?>> searchIssues(@RequestParam(value = "q", required = false) String searchTerm,
+                                          @RequestParam(value = "fields", required = false) String fields) {
         logger.info("🔍 Recherche de tickets avec le terme: '{}'", searchTerm);
-
-        try {
-            List<Issue> issues = issueService.searchIssues(searchTerm);
-
-            List<Map<String, Object>> issueMaps = issues.stream()
-                    .map(this::convertIssueToMap)
-                    .collect(java.util.stream.Collectors.toList());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Recherche de tickets effectuée avec succès");
-            response.put("searchTerm", searchTerm);
-            response.put("count", issueMaps.size());
-            response.put("issues", issueMaps);
-
-            logger.info("✅ {} tickets trouvés pour la recherche '{}'", issueMaps.size(), searchTerm);
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la recherche de tickets", e);
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la recherche de tickets");
-            errorResponse.put("searchTerm", searchTerm);
-            errorResponse.put("error", e.getMessage());
-
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+
+        return issueService.searchIssuesAsync(searchTerm, selection)
+                .<ResponseEntity<?>>thenApply(issues -> {
+                    List<Map<String, Object>> issueMaps = issues.stream()
+                            .map(issue -> convertIssueToMap(issue, selection))
+                            .collect(java.util.stream.Collectors.toList());
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Recherche de tickets effectuée avec succès");
+                    response.put("searchTerm", searchTerm);
+                    response.put("count", issueMaps.size());
+                    response.put("issues", issueMaps);
+
+                    logger.info("✅ {} tickets trouvés pour la recherche '{}'", issueMaps.size(), searchTerm);
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la recherche de tickets", e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la recherche de tickets");
+                    errorResponse.put("searchTerm", searchTerm);
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
     }
 
+    @JiraTimeout(30000)
     @GetMapping("/issues/jql")
-    public ResponseEntity<?> searchIssuesByJQL(@RequestParam(value = "query") String jqlQuery) {
+    public CompletableFuture<ResponseEntity<?>> searchIssuesByJQL(@RequestParam(value = "query") String jqlQuery,
+                                                                  @RequestParam(value = "fields", required = false) String fields,
+                                                                  @RequestParam(value = "all", defaultValue = "false") boolean all) {
         logger.info("🔍 Recherche JQL de tickets: {}", jqlQuery);
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+
+        CompletableFuture<List<Issue>> search = all
+                ? issueService.searchAllIssuesByJQLAsync(jqlQuery, selection)
+                : issueService.searchIssuesByJQLAsync(jqlQuery, selection);
+
+        return search
+                .<ResponseEntity<?>>thenApply(issues -> {
+                    List<Map<String, Object>> issueMaps = issues.stream()
+                            .map(issue -> convertIssueToMap(issue, selection))
+                            .collect(java.util.stream.Collectors.toList());
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "Recherche JQL effectuée avec succès");
+                    response.put("jqlQuery", jqlQuery);
+                    response.put("count", issueMaps.size());
+                    response.put("issues", issueMaps);
+
+                    logger.info("✅ {} tickets trouvés pour la requête JQL", issueMaps.size());
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(error -> {
+                    Throwable e = unwrap(error);
+                    logger.error("❌ Erreur lors de la recherche JQL", e);
+
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "Erreur lors de la recherche JQL");
+                    errorResponse.put("jqlQuery", jqlQuery);
+                    errorResponse.put("error", e.getMessage());
+
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
+    }
 
-        try {
-            List<Issue> issues = issueService.searchIssuesByJQL(jqlQuery);
+    /**
+     * Variante en flux de /issues/jql : un ticket JSON par ligne (NDJSON), écrit
+     * au fur et à mesure de l'arrivée des pages Jira, compressé si gzip=true.
+     * Pas d'échéance : l'export continue tant que le client lit le flux.
+     */
+    @JiraTimeout(0)
+    @GetMapping(value = "/issues/jql/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamIssuesByJQL(@RequestParam(value = "query") String jqlQuery,
+                                                                   @RequestParam(value = "fields", required = false) String fields,
+                                                                   @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        logger.info("🌊 Export NDJSON des tickets pour la requête JQL: {}", jqlQuery);
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(target);
+            generator.setRootValueSeparator(null);
+
+            try {
+                int count = issueService.streamIssuesByJQL(jqlQuery, selection, issue -> {
+                    try {
+                        generator.writeObject(convertIssueToMap(issue, selection));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                logger.info("✅ {} tickets exportés en NDJSON", count);
+            } catch (UncheckedIOException e) {
+                // Client déconnecté : inutile de continuer à lire les pages Jira
+                logger.warn("⚠️ Export NDJSON interrompu: {}", e.getMessage());
+                throw e.getCause();
+            } catch (Exception e) {
+                // Les en-têtes sont déjà envoyés : l'erreur est signalée par une dernière ligne
+                logger.error("❌ Erreur lors de l'export NDJSON", e);
+                Map<String, Object> errorLine = new HashMap<>();
+                errorLine.put("success", false);
+                errorLine.put("error", e.getMessage());
+                generator.writeObject(errorLine);
+                generator.writeRaw('\n');
+            } finally {
+                generator.close();
+            }
+        };
 
-            List<Map<String, Object>> issueMaps = issues.stream()
-                    .map(this::convertIssueToMap)
-                    .collect(java.util.stream.Collectors.toList());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Recherche JQL effectuée avec succès");
-            response.put("jqlQuery", jqlQuery);
-            response.put("count", issueMaps.size());
-            response.put("issues", issueMaps);
+    @GetMapping("/issues/health")
+    public ResponseEntity<?> issuesHealthCheck(@RequestParam(value = "history", defaultValue = "false") boolean history) {
+        logger.debug("🏥 Vérification de la santé de la connexion Jira pour les tickets");
+        return healthResponse(JiraHealthProber.ISSUES, "Configuration Jira valide pour les tickets", history);
+    }
 
-            logger.info("✅ {} tickets trouvés pour la requête JQL", issueMaps.size());
-            return ResponseEntity.ok(response);
+    /**
+     * Dernier résultat de la vérification faite en arrière-plan par
+     * JiraHealthProber : aucun appel Jira n'est fait ici
+     */
+    private ResponseEntity<?> healthResponse(String check, String validMessage, boolean withHistory) {
+        JiraHealthStatus status = healthProber.getStatus(check);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", System.currentTimeMillis());
+        if (status == null) {
+            response.put("success", false);
+            response.put("message", "Vérification de santé Jira en cours");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
 
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la recherche JQL", e);
+        boolean stale = healthProber.isStale(status);
+        boolean isHealthy = status.isHealthy() && !stale;
+        response.put("success", isHealthy);
+        response.put("message", isHealthy ? validMessage
+                : stale ? "Résultat de santé Jira périmé" : "Configuration Jira invalide");
+        response.put("checkedAt", status.getCheckedAt());
+        response.put("latencyMs", status.getLatencyMs());
+        if (status.getError() != null) {
+            response.put("error", status.getError());
+        }
+        if (withHistory) {
+            response.put("history", healthProber.getHistory(check).stream()
+                    .map(this::convertHealthToMap)
+                    .collect(java.util.stream.Collectors.toList()));
+        }
 
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la recherche JQL");
-            errorResponse.put("jqlQuery", jqlQuery);
-            errorResponse.put("error", e.getMessage());
+        HttpStatus httpStatus = isHealthy ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(httpStatus).body(response);
+    }
 
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+    // ========== TABLEAU DE BORD ==========
+
+    /**
+     * Données de la page d'accueil en un seul appel : projets, derniers tickets,
+     * tickets de l'utilisateur et santé Jira (dernière vérification), chargés en parallèle. Chaque partie
+     * a son propre délai (jira.dashboard.<partie>.timeout-ms, sinon
+     * jira.dashboard.timeout-ms) ; une partie en échec n'empêche pas la réponse.
+     */
+    @JiraTimeout(10000)
+    @GetMapping("/dashboard")
+    public CompletableFuture<ResponseEntity<?>> getDashboard(Principal principal,
+                                                             @RequestParam(value = "assignee", required = false) String assignee,
+                                                             @RequestParam(value = "fields", required = false) String fields) {
+        String user = assignee != null ? assignee : principal != null ? principal.getName() : null;
+        logger.info("📊 Demande du tableau de bord pour: {}", user);
+        IssueFieldSelection selection = IssueFieldSelection.parse(fields);
+        long start = System.nanoTime();
+
+        Map<String, CompletableFuture<Map<String, Object>>> parts = new LinkedHashMap<>();
+        parts.put("projects", dashboardPart("projects", () -> projectService.getAllProjectsAsync()
+                .thenApply(projects -> {
+                    Map<String, Object> part = new HashMap<>();
+                    part.put("success", true);
+                    part.put("count", projects.size());
+                    part.put("projects", projects.stream()
+                            .map(this::convertProjectToMap)
+                            .collect(java.util.stream.Collectors.toList()));
+                    return part;
+                })));
+        parts.put("issues", dashboardPart("issues", () -> issueService.getAllIssuesAsync(0, 50, selection)
+                .thenApply(issues -> issuesPart(issues, selection))));
+        parts.put("myIssues", dashboardPart("myIssues", () -> {
+            if (user == null) {
+                throw new IllegalStateException("Utilisateur inconnu");
+            }
+            return issueService.getIssuesByAssigneeAsync(user, selection)
+                    .thenApply(issues -> issuesPart(issues, selection));
+        }));
+        parts.put("projectsHealth", dashboardPart("projectsHealth", () -> CompletableFuture.completedFuture(
+                healthPart(healthProber.isHealthy(JiraHealthProber.PROJECTS)))));
+        parts.put("issuesHealth", dashboardPart("issuesHealth", () -> CompletableFuture.completedFuture(
+                healthPart(healthProber.isHealthy(JiraHealthProber.ISSUES)))));
+
+        return CompletableFuture.allOf(parts.values().toArray(new CompletableFuture[0]))
+                .<ResponseEntity<?>>thenApply(ignored -> {
+                    Map<String, Object> response = new HashMap<>();
+                    int failed = 0;
+                    for (Map.Entry<String, CompletableFuture<Map<String, Object>>> part : parts.entrySet()) {
+                        Map<String, Object> result = part.getValue().join();
+                        if (!Boolean.TRUE.equals(result.get("success"))) {
+                            failed++;
+                        }
+                        response.put(part.getKey(), result);
+                    }
+
+                    response.put("success", failed < parts.size());
+                    response.put("partial", failed > 0);
+                    response.put("message", failed == 0
+                            ? "Tableau de bord récupéré avec succès"
+                            : failed + " partie(s) du tableau de bord indisponible(s)");
+                    response.put("user", user);
+                    response.put("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+                    logger.info("✅ Tableau de bord retourné en {} ms ({} partie(s) en échec)",
+                            response.get("durationMs"), failed);
+                    HttpStatus status = failed < parts.size() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+                    return ResponseEntity.status(status).body(response);
+                });
     }
 
-    @GetMapping("/issues/health")
-    public ResponseEntity<?> issuesHealthCheck() {
-        logger.info("🏥 Vérification de la santé de la connexion Jira pour les tickets");
+    /**
+     * Lance une partie du tableau de bord avec son délai ; un échec ou un délai
+     * dépassé devient une partie {success: false} au lieu d'une erreur
+     */
+    private CompletableFuture<Map<String, Object>> dashboardPart(String name, Supplier<CompletableFuture<Map<String, Object>>> call) {
+        long timeoutMs = environment.getProperty("jira.dashboard." + name + ".timeout-ms", Long.class, dashboardTimeoutMs);
 
+        CompletableFuture<Map<String, Object>> part;
         try {
-            boolean isHealthy = issueService.validateJiraConfiguration();
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", isHealthy);
-            response.put("message", isHealthy ? "Configuration Jira valide pour les tickets" : "Configuration Jira invalide");
-            response.put("timestamp", System.currentTimeMillis());
-
-            HttpStatus status = isHealthy ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
-            return ResponseEntity.status(status).body(response);
+            part = Mono.fromFuture(call.get()).timeout(Duration.ofMillis(timeoutMs)).toFuture();
+        } catch (RuntimeException e) {
+            part = new CompletableFuture<>();
+            part.completeExceptionally(e);
+        }
 
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la vérification de santé des tickets", e);
+        return part.exceptionally(error -> {
+            Throwable e = unwrap(error);
+            boolean timedOut = e instanceof TimeoutException;
+            logger.warn("⚠️ Partie '{}' du tableau de bord indisponible: {}", name,
+                    timedOut ? "délai de " + timeoutMs + " ms dépassé" : e.getMessage());
+
+            Map<String, Object> failed = new HashMap<>();
+            failed.put("success", false);
+            failed.put("timeout", timedOut);
+            failed.put("error", timedOut ? "Délai de " + timeoutMs + " ms dépassé" : e.getMessage());
+            return failed;
+        });
+    }
 
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Erreur lors de la vérification de santé");
-            errorResponse.put("error", e.getMessage());
+    private Map<String, Object> issuesPart(List<Issue> issues, IssueFieldSelection selection) {
+        Map<String, Object> part = new HashMap<>();
+        part.put("success", true);
+        part.put("count", issues.size());
+        part.put("issues", issues.stream()
+                .map(issue -> convertIssueToMap(issue, selection))
+                .collect(java.util.stream.Collectors.toList()));
+        return part;
+    }
 
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+    private static Map<String, Object> healthPart(boolean healthy) {
+        Map<String, Object> part = new HashMap<>();
+        part.put("success", healthy);
+        part.put("message", healthy ? "Configuration Jira valide" : "Configuration Jira invalide");
+        return part;
     }
+
     private Map<String, Object> convertProjectToMap(Project project) {
         Map<String, Object> projectMap = new HashMap<>();
         projectMap.put("id", project.getId());
@@ -379,22 +713,43 @@ public class JiraController {
         projectMap.put("leadName", project.getLeadName());
         return projectMap;
     }
-    private Map<String, Object> convertIssueToMap(Issue issue) {
+    private Map<String, Object> convertHealthToMap(JiraHealthStatus status) {
+        Map<String, Object> healthMap = new HashMap<>();
+        healthMap.put("healthy", status.isHealthy());
+        healthMap.put("checkedAt", status.getCheckedAt());
+        healthMap.put("latencyMs", status.getLatencyMs());
+        healthMap.put("error", status.getError());
+        return healthMap;
+    }
+    private Map<String, Object> convertIssueToMap(Issue issue, IssueFieldSelection selection) {
         Map<String, Object> issueMap = new HashMap<>();
         issueMap.put("id", issue.getId());
         issueMap.put("key", issue.getKey());
-        issueMap.put("summary", issue.getSummary());
-        issueMap.put("description", issue.getDescription());
-        issueMap.put("status", issue.getStatus());
-        issueMap.put("priority", issue.getPriority());
-        issueMap.put("issueType", issue.getIssueType());
-        issueMap.put("assignee", issue.getAssignee());
-        issueMap.put("reporter", issue.getReporter());
-        issueMap.put("projectKey", issue.getProjectKey());
-        issueMap.put("projectName", issue.getProjectName());
-        issueMap.put("created", issue.getCreated());
-        issueMap.put("updated", issue.getUpdated());
-        issueMap.put("resolution", issue.getResolution());
+        putIfSelected(issueMap, selection, "summary", issue.getSummary());
+        putIfSelected(issueMap, selection, "description", issue.getDescription());
+        putIfSelected(issueMap, selection, "status", issue.getStatus());
+        putIfSelected(issueMap, selection, "priority", issue.getPriority());
+        putIfSelected(issueMap, selection, "issueType", issue.getIssueType());
+        putIfSelected(issueMap, selection, "assignee", issue.getAssignee());
+        putIfSelected(issueMap, selection, "reporter", issue.getReporter());
+        putIfSelected(issueMap, selection, "projectKey", issue.getProjectKey());
+        putIfSelected(issueMap, selection, "projectName", issue.getProjectName());
+        putIfSelected(issueMap, selection, "created", issue.getCreated());
+        putIfSelected(issueMap, selection, "updated", issue.getUpdated());
+        putIfSelected(issueMap, selection, "resolution", issue.getResolution());
         return issueMap;
     }
+
+    /**
+     * Erreur d'origine d'un CompletableFuture (sans l'enveloppe CompletionException)
+     */
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private void putIfSelected(Map<String, Object> map, IssueFieldSelection selection, String field, Object value) {
+        if (selection.includes(field)) {
+            map.put(field, value);
+        }
+    }
 }
\ No newline at end of file
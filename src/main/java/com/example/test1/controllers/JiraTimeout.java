@@ -0,0 +1,20 @@
+package com.example.test1.controllers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Budget de temps par défaut (ms) des appels Jira d'un endpoint, utilisé quand
+ * le client n'envoie pas l'en-tête X-Request-Timeout-Ms. 0 : pas d'échéance,
+ * même si le client envoie l'en-tête (export en flux, par exemple).
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JiraTimeout {
+
+    long value();
+}
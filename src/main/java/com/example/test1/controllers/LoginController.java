@@ -2,8 +2,16 @@ package com.example.test1.controllers;
 
 import com.example.test1.dto.LoginRequest;
 import com.example.test1.dto.LoginResponse;
+import com.example.test1.dto.RefreshRequest;
+import com.example.test1.services.jwt.CachedJiraUserDetailsService;
+import com.example.test1.services.jwt.RefreshTokenRegistry;
 import com.example.test1.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,6 +19,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,13 +29,24 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/login")
 public class LoginController {
 
+    private static final Logger logger = LoggerFactory.getLogger(LoginController.class);
+
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final UserDetailsService jiraUserDetailsService;
+    private final CachedJiraUserDetailsService userCache;
+    private final RefreshTokenRegistry refreshTokens;
 
     @Autowired
-    public LoginController(AuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+    public LoginController(AuthenticationManager authenticationManager, JwtUtil jwtUtil,
+                           @Qualifier("jiraUserDetailsService") UserDetailsService jiraUserDetailsService,
+                           CachedJiraUserDetailsService userCache,
+                           RefreshTokenRegistry refreshTokens) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.jiraUserDetailsService = jiraUserDetailsService;
+        this.userCache = userCache;
+        this.refreshTokens = refreshTokens;
     }
 
     @PostMapping(produces = "application/json", consumes = "application/json")
@@ -37,12 +57,49 @@ public class LoginController {
             );
 
             UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String jwt = jwtUtil.generateToken(userDetails.getUsername());
-            LoginResponse response = new LoginResponse(jwt);
-
-            return ResponseEntity.ok().body(response);
+            return ResponseEntity.ok().body(issueTokens(userDetails));
         } catch (AuthenticationException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Échange un token de rafraîchissement contre un nouveau token d'accès.
+     * Seul point où l'utilisateur est revérifié dans Jira en mode autoportant.
+     */
+    @PostMapping(value = "/refresh", produces = "application/json", consumes = "application/json")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshRequest refreshRequest) {
+        try {
+            Claims claims = jwtUtil.verifyToken(refreshRequest.getRefreshToken());
+            if (!jwtUtil.isRefreshToken(claims)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            // Rotation : le token présenté est invalidé, un nouveau est émis plus bas
+            if (!refreshTokens.consume(claims)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            String username = claims.getSubject();
+            userCache.evict(username);
+            UserDetails userDetails = jiraUserDetailsService.loadUserByUsername(username);
+            if (!userDetails.isEnabled()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            userCache.put(userDetails);
+
+            return ResponseEntity.ok().body(issueTokens(userDetails));
+        } catch (JwtException | IllegalArgumentException | AuthenticationException e) {
+            logger.warn("Refresh token rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    private LoginResponse issueTokens(UserDetails userDetails) {
+        if (!jwtUtil.isSelfContained()) {
+            return new LoginResponse(jwtUtil.generateToken(userDetails.getUsername()));
+        }
+        return new LoginResponse(
+                jwtUtil.generateAccessToken(userDetails),
+                jwtUtil.generateRefreshToken(userDetails.getUsername()));
+    }
+}
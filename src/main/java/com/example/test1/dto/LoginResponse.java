@@ -1,12 +1,21 @@
 package com.example.test1.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class LoginResponse {
     private String jwtToken;
+    private String refreshToken;
 
     public LoginResponse(String jwtToken) {
         this.jwtToken = jwtToken;
     }
 
+    public LoginResponse(String jwtToken, String refreshToken) {
+        this.jwtToken = jwtToken;
+        this.refreshToken = refreshToken;
+    }
+
     public String getJwtToken() {
         return jwtToken;
     }
@@ -14,4 +23,12 @@ public class LoginResponse {
     public void setJwtToken(String jwtToken) {
         this.jwtToken = jwtToken;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
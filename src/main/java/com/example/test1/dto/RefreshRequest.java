@@ -0,0 +1,21 @@
+package com.example.test1.dto;
+
+public class RefreshRequest {
+
+    private String refreshToken;
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshRequest{" +
+                "refreshToken='[PROTECTED]'" +
+                '}';
+    }
+}
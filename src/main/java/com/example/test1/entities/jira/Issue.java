@@ -25,6 +25,7 @@ public class Issue {
     private String priority;
     private String issueType;
     private String assignee;
+    private String assigneeName;
     private String reporter;
     private String projectKey;
     private String projectName;
@@ -114,6 +115,17 @@ public class Issue {
         this.assignee = assignee;
     }
 
+    /**
+     * Identifiant Jira de l'assigné (assignee.name), utilisé par les filtres JQL
+     */
+    public String getAssigneeName() {
+        return assigneeName;
+    }
+
+    public void setAssigneeName(String assigneeName) {
+        this.assigneeName = assigneeName;
+    }
+
     public String getReporter() {
         return reporter;
     }
@@ -0,0 +1,55 @@
+package com.example.test1.entities.primary;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * État du miroir des tickets : filigrane (plus grande date de mise à jour
+ * synchronisée) et date de la dernière synchronisation réussie
+ */
+@Entity
+@Table(name = "jira_issue_mirror_state")
+public class IssueMirrorState {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "watermark")
+    private Long watermark;
+
+    @Column(name = "last_sync_at")
+    private Long lastSyncAt;
+
+    public IssueMirrorState() {}
+
+    public IssueMirrorState(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(Long watermark) {
+        this.watermark = watermark;
+    }
+
+    public Long getLastSyncAt() {
+        return lastSyncAt;
+    }
+
+    public void setLastSyncAt(Long lastSyncAt) {
+        this.lastSyncAt = lastSyncAt;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.test1.entities.primary;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+/**
+ * Copie locale d'un ticket Jira (miroir incrémental dans plugindb)
+ */
+@Entity
+@Table(name = "jira_issue_mirror", indexes = {
+        @Index(name = "idx_mirror_project_created", columnList = "project_key, created_at"),
+        @Index(name = "idx_mirror_assignee_updated", columnList = "assignee_name, updated_at"),
+        @Index(name = "idx_mirror_status_updated", columnList = "status, updated_at")
+})
+public class MirroredIssue implements MirroredIssueSummary {
+
+    @Id
+    @Column(name = "issue_key", length = 64)
+    private String key;
+
+    @Column(name = "issue_id", length = 32)
+    private String id;
+
+    @Column(name = "summary", length = 1024)
+    private String summary;
+
+    @Lob
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "priority")
+    private String priority;
+
+    @Column(name = "issue_type")
+    private String issueType;
+
+    @Column(name = "assignee")
+    private String assignee;
+
+    @Column(name = "assignee_name")
+    private String assigneeName;
+
+    @Column(name = "reporter")
+    private String reporter;
+
+    @Column(name = "project_key", length = 64)
+    private String projectKey;
+
+    @Column(name = "project_name")
+    private String projectName;
+
+    @Column(name = "created", length = 40)
+    private String created;
+
+    @Column(name = "updated", length = 40)
+    private String updated;
+
+    @Column(name = "resolution")
+    private String resolution;
+
+    // Dates Jira en millisecondes epoch : tri et filigrane de synchronisation
+    @Column(name = "created_at")
+    private Long createdAt;
+
+    @Column(name = "updated_at")
+    private Long updatedAt;
+
+    public MirroredIssue() {}
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public void setSummary(String summary) {
+        this.summary = summary;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public String getIssueType() {
+        return issueType;
+    }
+
+    public void setIssueType(String issueType) {
+        this.issueType = issueType;
+    }
+
+    public String getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(String assignee) {
+        this.assignee = assignee;
+    }
+
+    public String getAssigneeName() {
+        return assigneeName;
+    }
+
+    public void setAssigneeName(String assigneeName) {
+        this.assigneeName = assigneeName;
+    }
+
+    public String getReporter() {
+        return reporter;
+    }
+
+    public void setReporter(String reporter) {
+        this.reporter = reporter;
+    }
+
+    public String getProjectKey() {
+        return projectKey;
+    }
+
+    public void setProjectKey(String projectKey) {
+        this.projectKey = projectKey;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+    public String getCreated() {
+        return created;
+    }
+
+    public void setCreated(String created) {
+        this.created = created;
+    }
+
+    public String getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(String updated) {
+        this.updated = updated;
+    }
+
+    public String getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(String resolution) {
+        this.resolution = resolution;
+    }
+
+    public Long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.test1.entities.primary;
+
+/**
+ * Ticket du miroir sans sa description (@Lob) : projection lue par les listes
+ * qui ne demandent pas la description
+ */
+public interface MirroredIssueSummary {
+
+    String getKey();
+
+    String getId();
+
+    String getSummary();
+
+    String getStatus();
+
+    String getPriority();
+
+    String getIssueType();
+
+    String getAssignee();
+
+    String getAssigneeName();
+
+    String getReporter();
+
+    String getProjectKey();
+
+    String getProjectName();
+
+    String getCreated();
+
+    String getUpdated();
+
+    String getResolution();
+}
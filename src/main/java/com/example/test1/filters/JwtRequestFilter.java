@@ -1,6 +1,7 @@
 package com.example.test1.filters;
 
 import com.example.test1.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,7 +30,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     @Autowired
     public JwtRequestFilter(
-            @Qualifier("jiraUserDetailsService") UserDetailsService userDetailsService,
+            @Qualifier("cachedJiraUserDetailsService") UserDetailsService userDetailsService,
             JwtUtil jwtUtil) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
@@ -41,13 +42,16 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         String authHeader = request.getHeader("Authorization");
         String token = null;
+        Claims claims = null;
         String username = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7); // Extract token after "Bearer "
             if (token != null && !token.trim().isEmpty() && token.contains(".")) {
                 try {
-                    username = jwtUtil.extractUsername(token);
+                    // Signature et expiration vérifiées une seule fois pour toute la requête
+                    claims = jwtUtil.verifyToken(token);
+                    username = claims.getSubject();
                 } catch (Exception e) {
                     logger.error("Error parsing JWT token: {}", e.getMessage());
                 }
@@ -58,10 +62,19 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             logger.debug("No Authorization header or does not start with Bearer");
         }
 
+        if (username != null && jwtUtil.isRefreshToken(claims)) {
+            // Un token de rafraîchissement n'est accepté que par /login/refresh
+            logger.warn("Refresh token used as access token for user: {}", username);
+            username = null;
+        }
+
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // Token autoportant : principal reconstruit depuis les claims, sans appel Jira
+            UserDetails userDetails = jwtUtil.hasEmbeddedPrincipal(claims)
+                    ? jwtUtil.extractPrincipal(claims)
+                    : userDetailsService.loadUserByUsername(username);
 
-            if (jwtUtil.validateToken(token, userDetails)) {
+            if (userDetails.isEnabled() && jwtUtil.validateClaims(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authenticationToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,83 @@
+package com.example.test1.filters;
+
+import com.example.test1.controllers.JiraTimeout;
+import com.example.test1.services.jira.client.JiraDeadline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Fixe l'échéance de la requête (JiraDeadline) avant l'appel du contrôleur :
+ * en-tête X-Request-Timeout-Ms du client, sinon @JiraTimeout de l'endpoint,
+ * sinon jira.deadline.default-ms. Les appels Jira sortants en tirent leur timeout.
+ * Un endpoint annoté @JiraTimeout(0) n'a jamais d'échéance.
+ */
+@Component
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestDeadlineInterceptor.class);
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    @Value("${jira.deadline.default-ms:30000}")
+    private long defaultTimeoutMs;
+
+    // Plafond de l'en-tête : un client ne peut pas réserver les threads indéfiniment
+    @Value("${jira.deadline.max-ms:120000}")
+    private long maxTimeoutMs;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long timeoutMs = timeoutMs(request, handler);
+        if (timeoutMs > 0) {
+            JiraDeadline.start(timeoutMs);
+        } else {
+            JiraDeadline.clear();
+        }
+        return true;
+    }
+
+    private long timeoutMs(HttpServletRequest request, Object handler) {
+        JiraTimeout timeout = handler instanceof HandlerMethod
+                ? ((HandlerMethod) handler).getMethodAnnotation(JiraTimeout.class)
+                : null;
+        // @JiraTimeout(0) : endpoint sans échéance, quel que soit l'en-tête
+        if (timeout != null && timeout.value() <= 0) {
+            return 0;
+        }
+
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null && !header.trim().isEmpty()) {
+            try {
+                long requested = Long.parseLong(header.trim());
+                if (requested > 0) {
+                    return Math.min(requested, maxTimeoutMs);
+                }
+            } catch (NumberFormatException e) {
+                logger.warn("⚠️ En-tête {} invalide ignoré: {}", TIMEOUT_HEADER, header);
+            }
+        }
+
+        return timeout != null ? timeout.value() : defaultTimeoutMs;
+    }
+
+    /**
+     * Réponse asynchrone : le thread Tomcat est rendu, les appels déjà lancés
+     * ont capturé l'échéance
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        JiraDeadline.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        JiraDeadline.clear();
+    }
+}
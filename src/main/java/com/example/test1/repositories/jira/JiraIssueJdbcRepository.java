@@ -0,0 +1,204 @@
+package com.example.test1.repositories.jira;
+
+import com.example.test1.entities.jira.Issue;
+import com.example.test1.services.jira.IssueFieldSelection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Lecture directe des tickets dans les tables de Jira (jiraissue, project,
+ * issuestatus, priority, issuetype, resolution, app_user, cwd_user).
+ * Attention : aucune permission Jira n'est appliquée, tous les tickets sont visibles.
+ */
+@Repository
+public class JiraIssueJdbcRepository {
+
+    private static final DateTimeFormatter JIRA_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    // Colonnes lues pour chaque champ de notre API ; ID, pkey et issuenum le sont toujours
+    private static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+
+    static {
+        COLUMNS.put("summary", "ji.SUMMARY");
+        COLUMNS.put("description", "ji.DESCRIPTION");
+        COLUMNS.put("status", "st.pname AS status_name");
+        COLUMNS.put("priority", "pr.pname AS priority_name");
+        COLUMNS.put("issueType", "it.pname AS type_name");
+        COLUMNS.put("resolution", "res.pname AS resolution_name");
+        COLUMNS.put("created", "ji.CREATED");
+        COLUMNS.put("updated", "ji.UPDATED");
+        COLUMNS.put("assignee", "aa.lower_user_name AS assignee_name,"
+                + " (SELECT MIN(cu.display_name) FROM cwd_user cu WHERE cu.lower_user_name = aa.lower_user_name) AS assignee_display");
+        COLUMNS.put("reporter",
+                "(SELECT MIN(cu.display_name) FROM cwd_user cu WHERE cu.lower_user_name = ra.lower_user_name) AS reporter_display");
+        COLUMNS.put("projectName", "p.pname AS project_name");
+    }
+
+    // Jointures vers de petites tables de référence : gardées même si la colonne n'est pas lue (filtres WHERE)
+    private static final String FROM_ISSUES =
+            " FROM jiraissue ji"
+            + " JOIN project p ON p.ID = ji.PROJECT"
+            + " LEFT JOIN issuestatus st ON st.ID = ji.issuestatus"
+            + " LEFT JOIN priority pr ON pr.ID = ji.PRIORITY"
+            + " LEFT JOIN issuetype it ON it.ID = ji.issuetype"
+            + " LEFT JOIN resolution res ON res.ID = ji.RESOLUTION"
+            + " LEFT JOIN app_user aa ON aa.user_key = ji.ASSIGNEE"
+            + " LEFT JOIN app_user ra ON ra.user_key = ji.REPORTER";
+
+    // Clés par requête : borne la taille du WHERE ... OR ...
+    private static final int KEYS_PER_QUERY = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public JiraIssueJdbcRepository(@Qualifier("jiraJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Issue findByKey(String issueKey) {
+        List<Issue> issues = findByKeys(Collections.singletonList(issueKey), IssueFieldSelection.all());
+        return issues.isEmpty() ? null : issues.get(0);
+    }
+
+    /**
+     * Tickets par clés (PROJ-123), par lots de KEYS_PER_QUERY ; les clés
+     * invalides ou introuvables sont absentes du résultat
+     */
+    public List<Issue> findByKeys(Collection<String> issueKeys, IssueFieldSelection fields) {
+        List<Object> parameters = new ArrayList<>();
+        for (String issueKey : issueKeys) {
+            int separator = issueKey.lastIndexOf('-');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                long issueNum = Long.parseLong(issueKey.substring(separator + 1));
+                parameters.add(issueKey.substring(0, separator));
+                parameters.add(issueNum);
+            } catch (NumberFormatException e) {
+                // Clé invalide : ignorée
+            }
+        }
+
+        List<Issue> issues = new ArrayList<>();
+        for (int from = 0; from < parameters.size(); from += 2 * KEYS_PER_QUERY) {
+            List<Object> batch = parameters.subList(from, Math.min(from + 2 * KEYS_PER_QUERY, parameters.size()));
+            StringBuilder where = new StringBuilder(" WHERE ");
+            for (int i = 0; i < batch.size(); i += 2) {
+                where.append(i == 0 ? "" : " OR ").append("(p.pkey = ? AND ji.issuenum = ?)");
+            }
+            query(fields, where.toString(), "", batch.size() / 2, issues::add, batch.toArray());
+        }
+        return issues;
+    }
+
+    public List<Issue> findByProject(String projectKey, int limit, IssueFieldSelection fields) {
+        List<Issue> issues = new ArrayList<>();
+        streamByProject(projectKey, limit, fields, issues::add);
+        return issues;
+    }
+
+    /**
+     * Tickets d'un projet transmis au consumer ligne par ligne (lecture en flux)
+     */
+    public void streamByProject(String projectKey, int limit, IssueFieldSelection fields, Consumer<Issue> sink) {
+        query(fields, " WHERE p.pkey = ?", " ORDER BY ji.CREATED DESC", limit, sink, projectKey);
+    }
+
+    public List<Issue> findByAssignee(String assigneeName, int limit, IssueFieldSelection fields) {
+        List<Issue> issues = new ArrayList<>();
+        query(fields, " WHERE aa.lower_user_name = LOWER(?)", " ORDER BY ji.UPDATED DESC", limit, issues::add, assigneeName);
+        return issues;
+    }
+
+    public List<Issue> findByStatus(String status, int limit, IssueFieldSelection fields) {
+        List<Issue> issues = new ArrayList<>();
+        query(fields, " WHERE st.pname = ?", " ORDER BY ji.UPDATED DESC", limit, issues::add, status);
+        return issues;
+    }
+
+    private void query(IssueFieldSelection fields, String where, String orderBy, int limit,
+                       Consumer<Issue> sink, Object... args) {
+        Object[] parameters = new Object[args.length + 1];
+        System.arraycopy(args, 0, parameters, 0, args.length);
+        parameters[args.length] = limit;
+
+        jdbcTemplate.query(select(fields) + FROM_ISSUES + where + orderBy + " LIMIT ?",
+                (RowCallbackHandler) rs -> sink.accept(mapRow(rs, fields)), parameters);
+    }
+
+    /**
+     * Liste SELECT limitée aux champs demandés : ni DESCRIPTION ni sous-requêtes
+     * cwd_user pour une liste qui ne les affiche pas
+     */
+    static String select(IssueFieldSelection fields) {
+        StringBuilder select = new StringBuilder("SELECT ji.ID, p.pkey, ji.issuenum");
+        for (Map.Entry<String, String> column : COLUMNS.entrySet()) {
+            if (fields.includes(column.getKey())) {
+                select.append(", ").append(column.getValue());
+            }
+        }
+        return select.toString();
+    }
+
+    private static Issue mapRow(ResultSet rs, IssueFieldSelection fields) throws SQLException {
+        Issue issue = new Issue(rs.getString("ID"), rs.getString("pkey") + "-" + rs.getLong("issuenum"),
+                fields.includes("summary") ? rs.getString("SUMMARY") : null);
+        issue.setProjectKey(rs.getString("pkey"));
+        if (fields.includes("description")) {
+            issue.setDescription(rs.getString("DESCRIPTION"));
+        }
+        if (fields.includes("status")) {
+            issue.setStatus(rs.getString("status_name"));
+        }
+        if (fields.includes("priority")) {
+            issue.setPriority(rs.getString("priority_name"));
+        }
+        if (fields.includes("issueType")) {
+            issue.setIssueType(rs.getString("type_name"));
+        }
+        if (fields.includes("resolution")) {
+            issue.setResolution(rs.getString("resolution_name"));
+        }
+        if (fields.includes("assignee")) {
+            issue.setAssignee(rs.getString("assignee_display"));
+            issue.setAssigneeName(rs.getString("assignee_name"));
+        }
+        if (fields.includes("reporter")) {
+            issue.setReporter(rs.getString("reporter_display"));
+        }
+        if (fields.includes("projectName")) {
+            issue.setProjectName(rs.getString("project_name"));
+        }
+        if (fields.includes("created")) {
+            issue.setCreated(format(rs.getTimestamp("CREATED")));
+        }
+        if (fields.includes("updated")) {
+            issue.setUpdated(format(rs.getTimestamp("UPDATED")));
+        }
+        return issue;
+    }
+
+    /**
+     * Même format que l'API REST (2024-01-15T10:23:45.000+0100)
+     */
+    private static String format(Timestamp timestamp) {
+        return timestamp == null ? null : JIRA_DATE.format(timestamp.toInstant().atZone(ZoneId.systemDefault()));
+    }
+}
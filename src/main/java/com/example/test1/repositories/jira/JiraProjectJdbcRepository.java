@@ -0,0 +1,49 @@
+package com.example.test1.repositories.jira;
+
+import com.example.test1.entities.jira.Project;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Lecture directe du catalogue des projets dans les tables de Jira
+ * (project, projectcategory, app_user, cwd_user)
+ */
+@Repository
+public class JiraProjectJdbcRepository {
+
+    private static final String SELECT_PROJECTS =
+            "SELECT p.ID, p.pkey, p.pname, p.DESCRIPTION, pc.cname AS category_name,"
+            + " (SELECT MIN(cu.display_name) FROM app_user au JOIN cwd_user cu ON cu.lower_user_name = au.lower_user_name"
+            + " WHERE au.user_key = p.LEAD) AS lead_name"
+            + " FROM project p"
+            + " LEFT JOIN nodeassociation na ON na.SOURCE_NODE_ID = p.ID"
+            + " AND na.SOURCE_NODE_ENTITY = 'Project' AND na.ASSOCIATION_TYPE = 'ProjectCategory'"
+            + " LEFT JOIN projectcategory pc ON pc.ID = na.SINK_NODE_ID"
+            + " ORDER BY p.pname";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jira.server.url}")
+    private String jiraServerUrl;
+
+    @Autowired
+    public JiraProjectJdbcRepository(@Qualifier("jiraJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Project> findAll() {
+        return jdbcTemplate.query(SELECT_PROJECTS, (rs, rowNum) -> {
+            Project project = new Project(rs.getString("ID"), rs.getString("pkey"), rs.getString("pname"));
+            project.setDescription(rs.getString("DESCRIPTION"));
+            project.setUrl(jiraServerUrl + "/rest/api/2/project/" + rs.getString("ID"));
+            project.setCategoryName(rs.getString("category_name"));
+            project.setLeadName(rs.getString("lead_name"));
+            return project;
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.test1.repositories.primary;
+
+import com.example.test1.entities.primary.IssueMirrorState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IssueMirrorStateRepository extends JpaRepository<IssueMirrorState, String> {
+}
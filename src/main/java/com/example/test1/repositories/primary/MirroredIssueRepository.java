@@ -0,0 +1,20 @@
+package com.example.test1.repositories.primary;
+
+import com.example.test1.entities.primary.MirroredIssue;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MirroredIssueRepository extends JpaRepository<MirroredIssue, String> {
+
+    // type : MirroredIssue (toutes les colonnes) ou MirroredIssueSummary (sans la description)
+
+    <T> List<T> findByProjectKeyOrderByCreatedAtDesc(String projectKey, Pageable pageable, Class<T> type);
+
+    <T> List<T> findByAssigneeNameOrderByUpdatedAtDesc(String assigneeName, Pageable pageable, Class<T> type);
+
+    <T> List<T> findByStatusOrderByUpdatedAtDesc(String status, Pageable pageable, Class<T> type);
+}
@@ -1,5 +1,6 @@
 package com.example.test1.services;
 
+import com.example.test1.services.jira.JiraHealthProber;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -31,10 +32,12 @@ public class JiraService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final JiraHealthProber healthProber;
 
-    public JiraService(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    public JiraService(RestTemplate restTemplate, ObjectMapper objectMapper, JiraHealthProber healthProber) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.healthProber = healthProber;
     }
 
     public boolean authenticateUser(String username, String password) {
@@ -126,47 +129,18 @@ public class JiraService {
     }
 
     /**
-     * Teste la connectivité avec le serveur Jira
+     * Teste la connectivité avec le serveur Jira : dernier résultat des
+     * vérifications faites en arrière-plan (JiraHealthProber), sans appel à Jira
      */
     public boolean testJiraConnection() {
-        logger.info("🔧 Test de la connectivité avec le serveur Jira");
-
-        try {
-            String url = jiraServerUrl + "/rest/api/2/serverInfo";
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // Utilisation des credentials configurés pour le test
-            String auth = jiraUsername + ":" + jiraApiToken;
-            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
-            headers.set("Authorization", "Basic " + encodedAuth);
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            boolean isConnected = response.getStatusCode() == HttpStatus.OK;
-
-            if (isConnected) {
-                JsonNode serverInfo = objectMapper.readTree(response.getBody());
-                logger.info("✅ Connexion Jira réussie - Version: {}, URL: {}",
-                        serverInfo.get("version").asText(),
-                        serverInfo.get("baseUrl").asText());
-            } else {
-                logger.error("❌ Échec de la connexion Jira - Status: {}", response.getStatusCode());
-            }
-
-            return isConnected;
-
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors du test de connexion Jira", e);
-            return false;
+        boolean isConnected = healthProber.isHealthy(JiraHealthProber.PROJECTS)
+                && healthProber.isHealthy(JiraHealthProber.ISSUES);
+        if (isConnected) {
+            logger.info("✅ Connexion Jira disponible (dernière vérification)");
+        } else {
+            logger.error("❌ Connexion Jira indisponible (dernière vérification)");
         }
+        return isConnected;
     }
 
     /**
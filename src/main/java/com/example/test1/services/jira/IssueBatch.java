@@ -0,0 +1,28 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+
+import java.util.List;
+
+/**
+ * Résultat d'une recherche de tickets par clés : tickets trouvés dans l'ordre
+ * de la demande et clés absentes (inexistantes, invalides ou non visibles)
+ */
+public class IssueBatch {
+
+    private final List<Issue> issues;
+    private final List<String> missingKeys;
+
+    public IssueBatch(List<Issue> issues, List<String> missingKeys) {
+        this.issues = issues;
+        this.missingKeys = missingKeys;
+    }
+
+    public List<Issue> getIssues() {
+        return issues;
+    }
+
+    public List<String> getMissingKeys() {
+        return missingKeys;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.test1.services.jira;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sélection des champs d'un ticket : restreint à la fois le paramètre fields=
+ * envoyé à /rest/api/2/search et les propriétés renvoyées par notre API.
+ * Les noms utilisés sont ceux de notre API (issueType, projectKey...).
+ */
+public final class IssueFieldSelection {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueFieldSelection.class);
+
+    /**
+     * Champ de notre API -> champ Jira correspondant (null : toujours renvoyé par Jira)
+     */
+    private static final Map<String, String> JIRA_FIELDS = new LinkedHashMap<>();
+
+    static {
+        JIRA_FIELDS.put("id", null);
+        JIRA_FIELDS.put("key", null);
+        JIRA_FIELDS.put("summary", "summary");
+        JIRA_FIELDS.put("description", "description");
+        JIRA_FIELDS.put("status", "status");
+        JIRA_FIELDS.put("priority", "priority");
+        JIRA_FIELDS.put("issueType", "issuetype");
+        JIRA_FIELDS.put("assignee", "assignee");
+        JIRA_FIELDS.put("reporter", "reporter");
+        JIRA_FIELDS.put("projectKey", "project");
+        JIRA_FIELDS.put("projectName", "project");
+        JIRA_FIELDS.put("created", "created");
+        JIRA_FIELDS.put("updated", "updated");
+        JIRA_FIELDS.put("resolution", "resolution");
+    }
+
+    private static final IssueFieldSelection ALL = new IssueFieldSelection(JIRA_FIELDS.keySet());
+
+    private final Set<String> fields;
+    private final String jiraFields;
+
+    private IssueFieldSelection(Set<String> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+
+        Set<String> jira = new LinkedHashSet<>();
+        for (String field : fields) {
+            String jiraField = JIRA_FIELDS.get(field);
+            if (jiraField != null) {
+                jira.add(jiraField);
+            }
+        }
+        // Toujours demandé (quelques octets) : sert à détecter les détails de ticket périmés en cache
+        jira.add("updated");
+        this.jiraFields = String.join(",", jira);
+    }
+
+    /**
+     * Tous les champs utilisés par le mapping Issue
+     */
+    public static IssueFieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Parse une liste séparée par des virgules (ex: "summary,status,assignee").
+     * id et key sont toujours inclus ; une liste vide ou absente sélectionne tout.
+     */
+    public static IssueFieldSelection parse(String csv) {
+        if (csv == null || csv.trim().isEmpty()) {
+            return ALL;
+        }
+
+        Set<String> selected = new LinkedHashSet<>(Arrays.asList("id", "key"));
+        for (String raw : csv.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (JIRA_FIELDS.containsKey(field)) {
+                selected.add(field);
+            } else {
+                logger.warn("⚠️ Champ de ticket inconnu ignoré: '{}'", field);
+            }
+        }
+        return new IssueFieldSelection(selected);
+    }
+
+    /**
+     * Même sélection avec un champ de plus (ex: champ nécessaire au tri)
+     */
+    public IssueFieldSelection with(String field) {
+        if (fields.contains(field) || !JIRA_FIELDS.containsKey(field)) {
+            return this;
+        }
+        Set<String> selected = new LinkedHashSet<>(fields);
+        selected.add(field);
+        return new IssueFieldSelection(selected);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Valeur du paramètre fields= pour l'API Jira
+     */
+    public String toJiraFields() {
+        return jiraFields;
+    }
+
+    public boolean isAll() {
+        return fields.size() == JIRA_FIELDS.size();
+    }
+
+    @Override
+    public String toString() {
+        return "IssueFieldSelection" + fields;
+    }
+}
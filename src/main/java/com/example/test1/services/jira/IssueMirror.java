@@ -0,0 +1,250 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import com.example.test1.entities.primary.IssueMirrorState;
+import com.example.test1.entities.primary.MirroredIssue;
+import com.example.test1.entities.primary.MirroredIssueSummary;
+import com.example.test1.repositories.primary.IssueMirrorStateRepository;
+import com.example.test1.repositories.primary.MirroredIssueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Miroir local des tickets Jira dans plugindb : écrit par IssueMirrorSynchronizer,
+ * lu par IssueService pour les listes (projet, assigné, statut) tant qu'il est frais.
+ * Les lectures ne remplissent que les champs demandés (IssueFieldSelection).
+ */
+@Service
+public class IssueMirror {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueMirror.class);
+
+    static final String STATE_NAME = "issues";
+
+    private static final DateTimeFormatter JIRA_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    @Autowired
+    private MirroredIssueRepository issueRepository;
+
+    @Autowired
+    private IssueMirrorStateRepository stateRepository;
+
+    @Value("${jira.mirror.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jira.mirror.read-enabled:true}")
+    private boolean readEnabled;
+
+    @Value("${jira.mirror.max-staleness-ms:600000}")
+    private long maxStalenessMs;
+
+    // Dernière synchronisation réussie (null : pas encore lue en base)
+    private volatile Long lastSyncAt;
+
+    /**
+     * Le miroir peut servir les lectures : activé, synchronisé au moins une fois
+     * et dernière synchronisation réussie datant de moins de jira.mirror.max-staleness-ms
+     */
+    public boolean isReady() {
+        if (!enabled || !readEnabled) {
+            return false;
+        }
+
+        Long syncedAt = lastSyncAt;
+        if (syncedAt == null) {
+            syncedAt = stateRepository.findById(STATE_NAME)
+                    .map(IssueMirrorState::getLastSyncAt)
+                    .orElse(0L);
+            lastSyncAt = syncedAt;
+        }
+        return syncedAt > 0 && System.currentTimeMillis() - syncedAt <= maxStalenessMs;
+    }
+
+    public List<Issue> findByProject(String projectKey, int limit, IssueFieldSelection fields) {
+        return toIssues(issueRepository.findByProjectKeyOrderByCreatedAtDesc(
+                projectKey, PageRequest.of(0, limit), projection(fields)), fields);
+    }
+
+    public List<Issue> findByAssignee(String assigneeName, int limit, IssueFieldSelection fields) {
+        return toIssues(issueRepository.findByAssigneeNameOrderByUpdatedAtDesc(
+                assigneeName, PageRequest.of(0, limit), projection(fields)), fields);
+    }
+
+    public List<Issue> findByStatus(String status, int limit, IssueFieldSelection fields) {
+        return toIssues(issueRepository.findByStatusOrderByUpdatedAtDesc(
+                status, PageRequest.of(0, limit), projection(fields)), fields);
+    }
+
+    /**
+     * Tickets par clés ; une clé absente du miroir (ticket créé depuis la
+     * dernière synchronisation) est absente du résultat
+     */
+    public List<Issue> findByKeys(Collection<String> issueKeys, IssueFieldSelection fields) {
+        return toIssues(issueRepository.findAllById(issueKeys), fields);
+    }
+
+    /**
+     * Parcourt tout le miroir page par page (chargement de l'index de recherche au démarrage)
+     */
+    public int forEachIssue(int pageSize, Consumer<Issue> sink) {
+        int count = 0;
+        Page<MirroredIssue> page;
+        int pageNumber = 0;
+        do {
+            page = issueRepository.findAll(PageRequest.of(pageNumber++, pageSize, Sort.by("key")));
+            for (Issue issue : toIssues(page.getContent(), IssueFieldSelection.all())) {
+                sink.accept(issue);
+                count++;
+            }
+        } while (page.hasNext());
+        return count;
+    }
+
+    /**
+     * Filigrane courant (millisecondes epoch), null avant la première synchronisation
+     */
+    public Long getWatermark() {
+        return stateRepository.findById(STATE_NAME)
+                .map(IssueMirrorState::getWatermark)
+                .orElse(null);
+    }
+
+    /**
+     * Insère ou remplace les tickets ; retourne la plus grande date de mise à jour du lot
+     */
+    public Long saveAll(List<Issue> issues) {
+        List<MirroredIssue> entities = new ArrayList<>(issues.size());
+        Long maxUpdated = null;
+
+        for (Issue issue : issues) {
+            if (issue.getKey() == null) {
+                continue;
+            }
+            MirroredIssue entity = toEntity(issue);
+            entities.add(entity);
+            if (entity.getUpdatedAt() != null && (maxUpdated == null || entity.getUpdatedAt() > maxUpdated)) {
+                maxUpdated = entity.getUpdatedAt();
+            }
+        }
+
+        issueRepository.saveAll(entities);
+        return maxUpdated;
+    }
+
+    /**
+     * Enregistre la fin d'une synchronisation réussie
+     */
+    public void markSynced(Long watermark, long syncedAt) {
+        IssueMirrorState state = stateRepository.findById(STATE_NAME)
+                .orElseGet(() -> new IssueMirrorState(STATE_NAME));
+        if (watermark != null) {
+            state.setWatermark(watermark);
+        }
+        state.setLastSyncAt(syncedAt);
+        stateRepository.save(state);
+        lastSyncAt = syncedAt;
+    }
+
+    /**
+     * La description (@Lob) n'est lue que si elle est demandée
+     */
+    private static Class<? extends MirroredIssueSummary> projection(IssueFieldSelection fields) {
+        return fields.includes("description") ? MirroredIssue.class : MirroredIssueSummary.class;
+    }
+
+    /**
+     * Ticket limité aux champs demandés (id et clé toujours renseignés)
+     */
+    private static List<Issue> toIssues(List<? extends MirroredIssueSummary> entities, IssueFieldSelection fields) {
+        List<Issue> issues = new ArrayList<>(entities.size());
+        for (MirroredIssueSummary entity : entities) {
+            Issue issue = new Issue(entity.getId(), entity.getKey(),
+                    fields.includes("summary") ? entity.getSummary() : null);
+            if (fields.includes("description") && entity instanceof MirroredIssue) {
+                issue.setDescription(((MirroredIssue) entity).getDescription());
+            }
+            if (fields.includes("status")) {
+                issue.setStatus(entity.getStatus());
+            }
+            if (fields.includes("priority")) {
+                issue.setPriority(entity.getPriority());
+            }
+            if (fields.includes("issueType")) {
+                issue.setIssueType(entity.getIssueType());
+            }
+            if (fields.includes("assignee")) {
+                issue.setAssignee(entity.getAssignee());
+                issue.setAssigneeName(entity.getAssigneeName());
+            }
+            if (fields.includes("reporter")) {
+                issue.setReporter(entity.getReporter());
+            }
+            issue.setProjectKey(entity.getProjectKey());
+            if (fields.includes("projectName")) {
+                issue.setProjectName(entity.getProjectName());
+            }
+            if (fields.includes("created")) {
+                issue.setCreated(entity.getCreated());
+            }
+            if (fields.includes("updated")) {
+                issue.setUpdated(entity.getUpdated());
+            }
+            if (fields.includes("resolution")) {
+                issue.setResolution(entity.getResolution());
+            }
+            issues.add(issue);
+        }
+        return issues;
+    }
+
+    private static MirroredIssue toEntity(Issue issue) {
+        MirroredIssue entity = new MirroredIssue();
+        entity.setKey(issue.getKey());
+        entity.setId(issue.getId());
+        entity.setSummary(issue.getSummary());
+        entity.setDescription(issue.getDescription());
+        entity.setStatus(issue.getStatus());
+        entity.setPriority(issue.getPriority());
+        entity.setIssueType(issue.getIssueType());
+        entity.setAssignee(issue.getAssignee());
+        entity.setAssigneeName(issue.getAssigneeName());
+        entity.setReporter(issue.getReporter());
+        entity.setProjectKey(issue.getProjectKey());
+        entity.setProjectName(issue.getProjectName());
+        entity.setCreated(issue.getCreated());
+        entity.setUpdated(issue.getUpdated());
+        entity.setResolution(issue.getResolution());
+        entity.setCreatedAt(toEpochMillis(issue.getCreated()));
+        entity.setUpdatedAt(toEpochMillis(issue.getUpdated()));
+        return entity;
+    }
+
+    /**
+     * Convertit une date Jira (2024-01-15T10:23:45.000+0100) en millisecondes epoch
+     */
+    static Long toEpochMillis(String jiraDate) {
+        if (jiraDate == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(jiraDate, JIRA_DATE).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            logger.warn("⚠️ Date Jira non reconnue: '{}'", jiraDate);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Synchronisation incrémentale du miroir : à chaque passage, seuls les tickets
+ * mis à jour depuis le filigrane (updated >= ...) sont relus dans Jira.
+ * La première exécution copie tous les tickets visibles.
+ */
+@Component
+@ConditionalOnProperty(name = "jira.mirror.enabled", havingValue = "true")
+public class IssueMirrorSynchronizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueMirrorSynchronizer.class);
+
+    // Format des dates JQL (précision à la minute)
+    private static final DateTimeFormatter JQL_DATE = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueMirror issueMirror;
+
+    @Autowired
+    private IssueSearchIndex searchIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jira.mirror.batch-size:200}")
+    private int batchSize;
+
+    @Value("${jira.mirror.overlap-ms:120000}")
+    private long overlapMs;
+
+    // Fuseau du compte technique Jira : les dates JQL sont interprétées dans ce fuseau
+    @Value("${jira.mirror.time-zone:}")
+    private String timeZone;
+
+    private Counter syncedIssues;
+
+    // Le miroir persiste entre deux démarrages, pas l'index de recherche en mémoire
+    private boolean searchIndexLoaded;
+
+    @PostConstruct
+    void initMetrics() {
+        syncedIssues = meterRegistry.counter("jira.mirror.synced");
+    }
+
+    @Scheduled(initialDelayString = "${jira.mirror.initial-delay-ms:10000}",
+            fixedDelayString = "${jira.mirror.interval-ms:60000}")
+    public void synchronize() {
+        long startedAt = System.currentTimeMillis();
+        if (!searchIndexLoaded) {
+            loadSearchIndex();
+        }
+
+        Long watermark = issueMirror.getWatermark();
+        // Recouvrement de la fenêtre : précision JQL à la minute et horloges décalées
+        Long from = watermark == null ? null : watermark - overlapMs;
+
+        logger.info("🔄 Synchronisation du miroir des tickets: {}", windowJql(from));
+
+        try {
+            int[] count = {0};
+            Long maxUpdated = readUpdatedSince(from, issues -> count[0] += issues.size());
+
+            issueMirror.markSynced(max(watermark, maxUpdated), startedAt);
+            syncedIssues.increment(count[0]);
+            logger.info("✅ Miroir synchronisé: {} tickets en {} ms", count[0], System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            // Le filigrane n'avance pas : la fenêtre sera relue au prochain passage
+            logger.error("❌ Erreur lors de la synchronisation du miroir des tickets", e);
+        }
+    }
+
+    /**
+     * Lit et enregistre les tickets mis à jour depuis from (null : tous) en
+     * pagination par curseur : chaque page repart de la date de mise à jour la
+     * plus récente déjà lue (updated >= curseur ORDER BY updated, key). Un ticket
+     * modifié pendant la lecture passe en fin de liste sans décaler les suivants,
+     * qui seraient sinon sautés par une pagination par offset. Les tickets déjà
+     * enregistrés avec la même date de mise à jour sont ignorés ; l'offset ne sert
+     * que si une page entière tient dans la même minute (précision JQL).
+     * Retourne la plus grande date de mise à jour enregistrée.
+     */
+    Long readUpdatedSince(Long from, Consumer<List<Issue>> saved) {
+        Long cursor = from;
+        int offset = 0;
+        Long maxUpdated = null;
+        // Clé -> date de mise à jour enregistrée, limitée aux minutes encore relues
+        Map<String, Long> seen = new HashMap<>();
+
+        while (true) {
+            List<Issue> page = new ArrayList<>(batchSize);
+            SearchPage header = issueService.fetchIssuesPage(windowJql(cursor), offset, batchSize,
+                    IssueFieldSelection.all(), page::add);
+
+            List<Issue> fresh = new ArrayList<>(page.size());
+            Long pageMaxUpdated = null;
+            for (Issue issue : page) {
+                Long updated = IssueMirror.toEpochMillis(issue.getUpdated());
+                pageMaxUpdated = max(pageMaxUpdated, updated);
+                if (issue.getKey() != null && !Objects.equals(seen.get(issue.getKey()), updated)) {
+                    seen.put(issue.getKey(), updated);
+                    fresh.add(issue);
+                }
+            }
+            if (!fresh.isEmpty()) {
+                maxUpdated = max(maxUpdated, issueMirror.saveAll(fresh));
+                saved.accept(fresh);
+            }
+
+            if (page.isEmpty() || header.getStartAt() + header.getCount() >= header.getTotal()) {
+                return maxUpdated;
+            }
+            if (pageMaxUpdated != null && (cursor == null || minute(pageMaxUpdated) > minute(cursor))) {
+                cursor = pageMaxUpdated;
+                offset = 0;
+                long cursorMinute = minute(cursor);
+                seen.values().removeIf(updated -> updated == null || minute(updated) < cursorMinute);
+            } else {
+                offset += page.size();
+            }
+        }
+    }
+
+    private void loadSearchIndex() {
+        try {
+            int count = issueMirror.forEachIssue(batchSize, searchIndex::index);
+            searchIndexLoaded = true;
+            // Les synchronisations suivantes indexent les tickets lus dans Jira
+            searchIndex.markComplete();
+            logger.info("✅ Index de recherche chargé depuis le miroir: {} tickets", count);
+        } catch (Exception e) {
+            logger.error("❌ Erreur lors du chargement de l'index de recherche depuis le miroir", e);
+        }
+    }
+
+    /**
+     * Tickets mis à jour depuis la minute de since (null : tous), par date puis clé
+     */
+    String windowJql(Long since) {
+        if (since == null) {
+            return "ORDER BY updated ASC, key ASC";
+        }
+        ZoneId zone = timeZone == null || timeZone.trim().isEmpty() ? ZoneId.systemDefault() : ZoneId.of(timeZone.trim());
+        return "updated >= \"" + JQL_DATE.format(Instant.ofEpochMilli(since).atZone(zone)) + "\" ORDER BY updated ASC, key ASC";
+    }
+
+    private static long minute(long epochMillis) {
+        return Math.floorDiv(epochMillis, 60_000L);
+    }
+
+    private static Long max(Long current, Long candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate > current ? candidate : current;
+    }
+}
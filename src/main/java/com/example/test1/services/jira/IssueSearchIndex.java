@@ -0,0 +1,283 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Index inversé en mémoire sur la clé, le résumé et la description des tickets
+ * déjà lus dans Jira (recherches, détails, miroir). Classement BM25 ; le dernier
+ * terme de la requête est traité comme un préfixe (saisie en cours).
+ * Tous les termes de la requête doivent être présents.
+ */
+@Component
+public class IssueSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueSearchIndex.class);
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    // Paramètres BM25 usuels
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Poids des champs : un terme de la clé ou du résumé compte plus qu'un terme de la description
+    private static final int KEY_WEIGHT = 3;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final class Document {
+        final Issue issue;
+        final Map<String, Integer> termFrequencies;
+        final int length;
+
+        Document(Issue issue, Map<String, Integer> termFrequencies, int length) {
+            this.issue = issue;
+            this.termFrequencies = termFrequencies;
+            this.length = length;
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Terme -> (clé du ticket -> fréquence pondérée) ; trié pour les requêtes par préfixe
+    private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+    private final Map<String, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    private final int maxDocuments;
+    private boolean fullLogged;
+    private boolean complete;
+
+    public IssueSearchIndex(@Value("${jira.search.index.max-documents:100000}") int maxDocuments) {
+        this.maxDocuments = maxDocuments;
+    }
+
+    /**
+     * Ajoute ou remplace un ticket. Le ticket doit contenir tous les champs
+     * (une sélection partielle effacerait le résumé ou la description indexés).
+     */
+    public void index(Issue issue) {
+        if (issue == null || issue.getKey() == null) {
+            return;
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTokens(frequencies, issue.getKey(), KEY_WEIGHT);
+        addTokens(frequencies, issue.getSummary(), SUMMARY_WEIGHT);
+        addTokens(frequencies, issue.getDescription(), DESCRIPTION_WEIGHT);
+
+        int length = 0;
+        for (int frequency : frequencies.values()) {
+            length += frequency;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(issue.getKey());
+            if (previous == null && documents.size() >= maxDocuments) {
+                if (!fullLogged) {
+                    logger.warn("⚠️ Index de recherche plein ({} tickets) : nouveaux tickets ignorés", maxDocuments);
+                    fullLogged = true;
+                }
+                return;
+            }
+            if (previous != null) {
+                removePostings(issue.getKey(), previous);
+            }
+
+            Document document = new Document(issue, frequencies, length);
+            documents.put(issue.getKey(), document);
+            totalLength += length;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(issue.getKey(), entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String issueKey) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(issueKey);
+            if (previous != null) {
+                removePostings(issueKey, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appelé une fois tous les tickets du miroir indexés
+     */
+    public void markComplete() {
+        lock.writeLock().lock();
+        try {
+            complete = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * L'index contient tous les tickets du miroir (chargé, et jamais plein) :
+     * une recherche sans résultat n'y manque aucun ticket
+     */
+    public boolean isComplete() {
+        lock.readLock().lock();
+        try {
+            return complete && !fullLogged;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recherche les tickets contenant tous les termes, triés par score BM25 décroissant
+     */
+    public List<Issue> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            Map<String, Double> scores = null;
+
+            for (int i = 0; i < terms.size(); i++) {
+                boolean prefix = i == terms.size() - 1;
+                Map<String, Double> termScores = scoreTerm(terms.get(i), prefix, documentCount, averageLength);
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<String, Double> intersection = new HashMap<>();
+                    for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                        Double score = termScores.get(entry.getKey());
+                        if (score != null) {
+                            intersection.put(entry.getKey(), entry.getValue() + score);
+                        }
+                    }
+                    scores = intersection;
+                }
+                if (scores.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            List<Map.Entry<String, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort((a, b) -> {
+                int byScore = Double.compare(b.getValue(), a.getValue());
+                return byScore != 0 ? byScore : a.getKey().compareTo(b.getKey());
+            });
+
+            List<Issue> issues = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = 0; i < ranked.size() && i < limit; i++) {
+                issues.add(documents.get(ranked.get(i).getKey()).issue);
+            }
+            return issues;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Score BM25 d'un terme pour chaque ticket ; pour un préfixe, chaque ticket
+     * garde le meilleur score parmi les termes qui commencent par ce préfixe
+     */
+    private Map<String, Double> scoreTerm(String term, boolean prefix, int documentCount, double averageLength) {
+        Map<String, Map<String, Integer>> matching;
+        if (prefix) {
+            matching = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+        } else {
+            Map<String, Integer> exact = postings.get(term);
+            matching = exact == null ? new HashMap<>() : Collections.singletonMap(term, exact);
+        }
+
+        Map<String, Double> scores = new HashMap<>();
+        for (Map<String, Integer> posting : matching.values()) {
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            for (Map.Entry<String, Integer> entry : posting.entrySet()) {
+                int frequency = entry.getValue();
+                int length = documents.get(entry.getKey()).length;
+                double score = idf * frequency * (K1 + 1)
+                        / (frequency + K1 * (1 - B + B * length / averageLength));
+                scores.merge(entry.getKey(), score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void removePostings(String issueKey, Document document) {
+        totalLength -= document.length;
+        for (String term : document.termFrequencies.keySet()) {
+            Map<String, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(issueKey);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addTokens(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Minuscules, accents retirés, découpage sur tout ce qui n'est ni lettre ni chiffre
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
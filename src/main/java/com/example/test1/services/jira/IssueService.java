@@ -1,20 +1,51 @@
 package com.example.test1.services.jira;
 
 import com.example.test1.entities.jira.Issue;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.test1.repositories.jira.JiraIssueJdbcRepository;
+import com.example.test1.services.jira.client.JiraDeadline;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * Service pour gérer les tickets (issues) Jira
@@ -24,6 +55,13 @@ public class IssueService {
 
     private static final Logger logger = LoggerFactory.getLogger(IssueService.class);
 
+    // Taille de la page de résultats de la recherche texte (comme searchIssuesByJQL)
+    private static final int SEARCH_RESULTS = 100;
+
+    // Clés de projet (PROJ) et de ticket (PROJ-123) : tout le reste est refusé avant de construire le JQL
+    private static final Pattern PROJECT_KEY = Pattern.compile("[A-Z][A-Z0-9_]*");
+    private static final Pattern ISSUE_KEY = Pattern.compile("[A-Za-z][A-Za-z0-9_]*-\\d+");
+
     @Value("${jira.server.url}")
     private String jiraServerUrl;
 
@@ -37,7 +75,81 @@ public class IssueService {
     private RestTemplate restTemplate;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    private WebClient jiraWebClient;
+
+    @Autowired
+    private JiraIssueParser issueParser;
+
+    @Autowired
+    private JiraRequestCoalescer requestCoalescer;
+
+    @Autowired
+    @Qualifier("jiraExecutor")
+    private Executor jiraExecutor;
+
+    @Value("${jira.search.page-size:100}")
+    private int searchPageSize;
+
+    @Value("${jira.search.max-results:2000}")
+    private int searchMaxResults;
+
+    @Value("${jira.search.parallelism:4}")
+    private int searchParallelism;
+
+    @Value("${jira.search.stream-max-results:100000}")
+    private int streamMaxResults;
+
+    // Nombre de clés de projet par recherche project in (...)
+    @Value("${jira.search.projects.chunk-size:20}")
+    private int projectsChunkSize;
+
+    // Longueur maximale d'une URL de recherche par lot (key in (...))
+    @Value("${jira.search.batch.max-url-length:6000}")
+    private int batchMaxUrlLength;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private IssueMirror issueMirror;
+
+    @Autowired
+    private JiraIssueJdbcRepository issueJdbcRepository;
+
+    @Autowired
+    private IssueSearchIndex searchIndex;
+
+    @Value("${jira.search.index.enabled:true}")
+    private boolean searchIndexEnabled;
+
+    // Aucun résultat dans l'index : la recherche est relancée en JQL (tickets pas encore indexés)
+    @Value("${jira.search.index.fallback-to-jql:true}")
+    private boolean searchIndexFallback;
+
+    // rest : API REST de Jira ; db : lecture directe des tables de Jira (jiraDataSource)
+    @Value("${jira.read.backend:rest}")
+    private String readBackend;
+
+    @Value("${jira.issues.cache.max-size:5000}")
+    private long detailCacheMaxSize;
+
+    @Value("${jira.issues.cache.ttl-ms:900000}")
+    private long detailCacheTtlMs;
+
+    private Cache<String, Issue> issueDetailCache;
+    private Counter detailInvalidations;
+
+    @PostConstruct
+    void initDetailCache() {
+        issueDetailCache = Caffeine.newBuilder()
+                .maximumSize(detailCacheMaxSize)
+                .expireAfterWrite(detailCacheTtlMs, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+
+        detailInvalidations = meterRegistry.counter("jira.issues.details.stale");
+        CaffeineCacheMetrics.monitor(meterRegistry, issueDetailCache, "jira.issues.details");
+    }
 
     /**
      * Récupère tous les tickets accessibles à l'utilisateur
@@ -50,40 +162,25 @@ public class IssueService {
      * Récupère les tickets avec pagination
      */
     public List<Issue> getAllIssues(int startAt, int maxResults) {
+        return getAllIssues(startAt, maxResults, IssueFieldSelection.all());
+    }
+
+    /**
+     * Récupère les tickets avec pagination, limités aux champs demandés
+     */
+    public List<Issue> getAllIssues(int startAt, int maxResults, IssueFieldSelection fields) {
         logger.info("🎫 Récupération des tickets Jira (startAt: {}, maxResults: {})", startAt, maxResults);
 
         try {
-            String url = jiraServerUrl + "/rest/api/2/search?startAt=" + startAt + "&maxResults=" + maxResults;
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            URI url = searchUri(null, startAt, maxResults, fields);
 
             logger.debug("📡 Appel API Jira: {}", url);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-                JsonNode issuesArray = jsonResponse.get("issues");
-                List<Issue> issues = new ArrayList<>();
-
-                if (issuesArray != null && issuesArray.isArray()) {
-                    for (JsonNode jsonIssue : issuesArray) {
-                        Issue issue = mapJsonToIssue(jsonIssue);
-                        issues.add(issue);
-                    }
-                }
+            List<Issue> issues = new ArrayList<>();
+            fetchSearchPage(url, fields, issues::add);
 
-                logger.info("✅ {} tickets récupérés avec succès", issues.size());
-                return issues;
-            } else {
-                logger.error("❌ Erreur lors de la récupération des tickets. Status: {}", response.getStatusCode());
-                return new ArrayList<>();
-            }
+            logger.info("✅ {} tickets récupérés avec succès", issues.size());
+            return issues;
 
         } catch (Exception e) {
             logger.error("❌ Erreur lors de la récupération des tickets", e);
@@ -95,30 +192,62 @@ public class IssueService {
      * Récupère les détails d'un ticket spécifique
      */
     public Issue getIssueDetails(String issueKey) {
+        return getIssueDetails(issueKey, IssueFieldSelection.all());
+    }
+
+    /**
+     * Récupère les détails d'un ticket spécifique, limités aux champs demandés.
+     * Les détails complets sont servis depuis le cache borné (W-TinyLFU) ;
+     * un seul appel Jira est fait pour des demandes concurrentes du même ticket.
+     */
+    public Issue getIssueDetails(String issueKey, IssueFieldSelection fields) {
         logger.info("🔍 Récupération des détails du ticket: {}", issueKey);
 
+        String cacheKey = detailCacheKey(issueKey);
+        if (!fields.isAll()) {
+            // Un ticket complet en cache couvre n'importe quelle sélection de champs
+            Issue cached = issueDetailCache.getIfPresent(cacheKey);
+            return cached != null ? cached : fetchIssueDetails(cacheKey, fields);
+        }
+        return issueDetailCache.get(cacheKey, key -> fetchIssueDetails(key, fields));
+    }
+
+    private Issue fetchIssueDetails(String issueKey, IssueFieldSelection fields) {
         try {
-            String url = jiraServerUrl + "/rest/api/2/issue/" + issueKey;
+            if (readsFromDatabase()) {
+                Issue issue = issueJdbcRepository.findByKey(issueKey);
+                if (issue == null) {
+                    throw new RuntimeException("Ticket non trouvé: " + issueKey);
+                }
+                searchIndex.index(issue);
+                return issue;
+            }
+
+            URI url = issueUri(issueKey, fields);
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode jsonIssue = objectMapper.readTree(response.getBody());
-                Issue issue = mapJsonToIssue(jsonIssue);
+            Issue issue = requestCoalescer.execute("issue", url, headers.getFirst(HttpHeaders.AUTHORIZATION), () ->
+                    restTemplate.execute(url, HttpMethod.GET, restTemplate.httpEntityCallback(entity), response -> {
+                        if (response.getStatusCode() != HttpStatus.OK) {
+                            return null;
+                        }
+                        try (InputStream body = response.getBody()) {
+                            return issueParser.parseIssue(body);
+                        }
+                    }));
 
-                logger.info("✅ Détails du ticket '{}' récupérés avec succès", issue.getSummary());
-                return issue;
-            } else {
+            if (issue == null) {
                 throw new RuntimeException("Ticket non trouvé: " + issueKey);
             }
 
+            if (fields.isAll()) {
+                searchIndex.index(issue);
+            }
+
+            logger.info("✅ Détails du ticket '{}' récupérés avec succès", issue.getSummary());
+            return issue;
+
         } catch (Exception e) {
             logger.error("❌ Erreur lors de la récupération du ticket {}", issueKey, e);
             throw new RuntimeException("Erreur lors de la récupération du ticket: " + issueKey, e);
@@ -129,26 +258,122 @@ public class IssueService {
      * Récupère les tickets d'un projet spécifique
      */
     public List<Issue> getIssuesByProject(String projectKey) {
+        return getIssuesByProject(projectKey, IssueFieldSelection.all());
+    }
+
+    public List<Issue> getIssuesByProject(String projectKey, IssueFieldSelection fields) {
         logger.info("📂 Récupération des tickets du projet: {}", projectKey);
 
         try {
+            if (readsFromDatabase()) {
+                return issueJdbcRepository.findByProject(projectKey, searchMaxResults, fields);
+            }
+            if (issueMirror.isReady()) {
+                return issueMirror.findByProject(projectKey, searchMaxResults, fields);
+            }
             String jql = "project = " + projectKey + " ORDER BY created DESC";
-            return searchIssuesByJQL(jql);
+            return searchAllIssuesByJQL(jql, fields);
         } catch (Exception e) {
             logger.error("❌ Erreur lors de la récupération des tickets du projet {}", projectKey, e);
             throw new RuntimeException("Erreur lors de la récupération des tickets du projet: " + projectKey, e);
         }
     }
 
+    /**
+     * Récupère les tickets de plusieurs projets avec des recherches project in (...)
+     * au lieu d'une recherche par projet. Au-delà de jira.search.projects.chunk-size
+     * clés, l'ensemble est découpé en plusieurs recherches, lues l'une après l'autre
+     * (chacune est déjà paginée en parallèle). Tickets triés par date de création décroissante.
+     */
+    public List<Issue> getIssuesByProjects(Collection<String> projectKeys, IssueFieldSelection fields) {
+        Set<String> keys = requestedProjectKeys(projectKeys);
+        logger.info("📂 Récupération des tickets de {} projets", keys.size());
+
+        if (keys.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            if (readsFromDatabase() || issueMirror.isReady()) {
+                // Tri par date de création, même si elle n'est pas demandée
+                IssueFieldSelection storedFields = fields.with("created");
+                List<Issue> issues = new ArrayList<>();
+                for (String key : keys) {
+                    issues.addAll(readsFromDatabase()
+                            ? issueJdbcRepository.findByProject(key, searchMaxResults, storedFields)
+                            : issueMirror.findByProject(key, searchMaxResults, storedFields));
+                }
+                sortNewestFirst(issues);
+                return issues;
+            }
+
+            List<String> projectQueries = projectQueries(keys);
+            boolean merged = projectQueries.size() > 1;
+            // Plusieurs recherches : la date de création sert à les refusionner, même si non demandée
+            IssueFieldSelection searchFields = merged ? fields.with("created") : fields;
+            List<Issue> issues = new ArrayList<>();
+            for (String jql : projectQueries) {
+                issues.addAll(searchAllIssuesByJQL(jql, searchFields));
+            }
+
+            if (merged) {
+                // On refusionne selon l'ordre du JQL
+                sortNewestFirst(issues);
+            }
+            logger.info("✅ {} tickets récupérés pour {} projets", issues.size(), keys.size());
+            return issues;
+
+        } catch (Exception e) {
+            logger.error("❌ Erreur lors de la récupération des tickets des projets {}", keys, e);
+            throw new RuntimeException("Erreur lors de la récupération des tickets des projets: " + keys, e);
+        }
+    }
+
+    private static Set<String> requestedProjectKeys(Collection<String> projectKeys) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String projectKey : projectKeys) {
+            String key = projectKey == null ? "" : projectKey.trim().toUpperCase(Locale.ROOT);
+            if (PROJECT_KEY.matcher(key).matches()) {
+                keys.add(key);
+            } else if (!key.isEmpty()) {
+                logger.warn("⚠️ Clé de projet invalide ignorée: '{}'", projectKey);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Une recherche project in (...) par lot de jira.search.projects.chunk-size clés
+     */
+    private List<String> projectQueries(Set<String> keys) {
+        List<String> orderedKeys = new ArrayList<>(keys);
+        List<String> queries = new ArrayList<>();
+        for (int from = 0; from < orderedKeys.size(); from += projectsChunkSize) {
+            List<String> chunk = orderedKeys.subList(from, Math.min(from + projectsChunkSize, orderedKeys.size()));
+            queries.add("project in (" + String.join(", ", chunk) + ") ORDER BY created DESC");
+        }
+        return queries;
+    }
+
     /**
      * Récupère les tickets assignés à un utilisateur
      */
     public List<Issue> getIssuesByAssignee(String assigneeUsername) {
+        return getIssuesByAssignee(assigneeUsername, IssueFieldSelection.all());
+    }
+
+    public List<Issue> getIssuesByAssignee(String assigneeUsername, IssueFieldSelection fields) {
         logger.info("👤 Récupération des tickets assignés à: {}", assigneeUsername);
 
         try {
+            if (readsFromDatabase()) {
+                return issueJdbcRepository.findByAssignee(assigneeUsername, searchMaxResults, fields);
+            }
+            if (issueMirror.isReady()) {
+                return issueMirror.findByAssignee(assigneeUsername, searchMaxResults, fields);
+            }
             String jql = "assignee = " + assigneeUsername + " ORDER BY updated DESC";
-            return searchIssuesByJQL(jql);
+            return searchAllIssuesByJQL(jql, fields);
         } catch (Exception e) {
             logger.error("❌ Erreur lors de la récupération des tickets assignés à {}", assigneeUsername, e);
             throw new RuntimeException("Erreur lors de la récupération des tickets assignés", e);
@@ -159,11 +384,21 @@ public class IssueService {
      * Récupère les tickets par statut
      */
     public List<Issue> getIssuesByStatus(String status) {
+        return getIssuesByStatus(status, IssueFieldSelection.all());
+    }
+
+    public List<Issue> getIssuesByStatus(String status, IssueFieldSelection fields) {
         logger.info("📊 Récupération des tickets avec le statut: {}", status);
 
         try {
+            if (readsFromDatabase()) {
+                return issueJdbcRepository.findByStatus(status, searchMaxResults, fields);
+            }
+            if (issueMirror.isReady()) {
+                return issueMirror.findByStatus(status, searchMaxResults, fields);
+            }
             String jql = "status = \"" + status + "\" ORDER BY updated DESC";
-            return searchIssuesByJQL(jql);
+            return searchAllIssuesByJQL(jql, fields);
         } catch (Exception e) {
             logger.error("❌ Erreur lors de la récupération des tickets par statut {}", status, e);
             throw new RuntimeException("Erreur lors de la récupération des tickets par statut", e);
@@ -171,42 +406,178 @@ public class IssueService {
     }
 
     /**
-     * Recherche des tickets par JQL (Jira Query Language)
+     * Récupère plusieurs tickets par leurs clés
      */
-    public List<Issue> searchIssuesByJQL(String jql) {
-        logger.info("🔍 Recherche de tickets avec JQL: {}", jql);
+    public IssueBatch getIssuesByKeys(Collection<String> issueKeys) {
+        return getIssuesByKeys(issueKeys, IssueFieldSelection.all());
+    }
+
+    /**
+     * Récupère plusieurs tickets en quelques recherches key in (...) au lieu d'un
+     * appel par ticket : les tickets complets déjà en cache sont servis directement,
+     * les autres clés sont découpées en lots tenant dans une URL et lues en parallèle.
+     * Comme les autres lectures, le lot est lu dans la base Jira (jira.read.backend=db)
+     * ou dans le miroir s'il est à jour ; les clés absentes du miroir sont lues dans Jira.
+     * Les tickets sont rendus dans l'ordre de la demande ; les clés introuvables,
+     * invalides ou non visibles sont listées à part.
+     */
+    public IssueBatch getIssuesByKeys(Collection<String> issueKeys, IssueFieldSelection fields) {
+        Set<String> requested = requestedIssueKeys(issueKeys);
+        logger.info("🔍 Récupération de {} tickets par clés", requested.size());
+
+        Map<String, Issue> found = new HashMap<>();
+        List<String> toFetch = lookUpCachedIssues(requested, found);
 
         try {
-            String encodedJql = java.net.URLEncoder.encode(jql, "UTF-8");
-            String url = jiraServerUrl + "/rest/api/2/search?jql=" + encodedJql + "&maxResults=100";
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            if (!toFetch.isEmpty() && (readsFromDatabase() || issueMirror.isReady())) {
+                toFetch = readStoredIssues(toFetch, fields, found);
+            }
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
+            List<Supplier<List<Issue>>> tasks = new ArrayList<>();
+            for (List<String> chunk : chunkKeysForUrl(toFetch, fields)) {
+                URI url = searchUri("key in (" + String.join(", ", chunk) + ")", 0, chunk.size(), fields, false);
+                tasks.add(() -> {
+                    List<Issue> issues = new ArrayList<>();
+                    fetchSearchPage(url, fields, issues::add);
+                    return issues;
+                });
+            }
 
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-                JsonNode issuesArray = jsonResponse.get("issues");
-                List<Issue> issues = new ArrayList<>();
+            for (List<Issue> issues : runInLanes(tasks)) {
+                addFetchedIssues(issues, found);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Erreur lors de la récupération des tickets par clés", e);
+            throw new RuntimeException("Erreur lors de la récupération des tickets par clés", e);
+        }
 
-                if (issuesArray != null && issuesArray.isArray()) {
-                    for (JsonNode jsonIssue : issuesArray) {
-                        Issue issue = mapJsonToIssue(jsonIssue);
-                        issues.add(issue);
-                    }
+        return toIssueBatch(requested, found, toFetch.size());
+    }
+
+    private static Set<String> requestedIssueKeys(Collection<String> issueKeys) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String issueKey : issueKeys) {
+            if (issueKey != null && !issueKey.trim().isEmpty()) {
+                requested.add(detailCacheKey(issueKey));
+            }
+        }
+        return requested;
+    }
+
+    /**
+     * Tickets complets déjà en cache ajoutés à found ; rend les clés valides à lire
+     */
+    private List<String> lookUpCachedIssues(Set<String> requested, Map<String, Issue> found) {
+        List<String> toFetch = new ArrayList<>();
+        for (String issueKey : requested) {
+            Issue cached = issueDetailCache.getIfPresent(issueKey);
+            if (cached != null) {
+                found.put(issueKey, cached);
+            } else if (ISSUE_KEY.matcher(issueKey).matches()) {
+                toFetch.add(issueKey);
+            }
+        }
+        return toFetch;
+    }
+
+    /**
+     * Lecture dans la base Jira ou le miroir ; rend les clés restant à lire dans Jira
+     */
+    private List<String> readStoredIssues(List<String> toFetch, IssueFieldSelection fields, Map<String, Issue> found) {
+        List<Issue> stored = readsFromDatabase()
+                ? issueJdbcRepository.findByKeys(toFetch, fields)
+                : issueMirror.findByKeys(toFetch, fields);
+        addFetchedIssues(stored, found);
+        // La base Jira fait foi ; le miroir peut ne pas encore contenir les tickets récents
+        List<String> remaining = new ArrayList<>();
+        if (!readsFromDatabase()) {
+            for (String issueKey : toFetch) {
+                if (!found.containsKey(issueKey)) {
+                    remaining.add(issueKey);
                 }
+            }
+        }
+        return remaining;
+    }
 
-                logger.info("✅ {} tickets trouvés pour la requête JQL", issues.size());
-                return issues;
+    private static void addFetchedIssues(List<Issue> issues, Map<String, Issue> found) {
+        for (Issue issue : issues) {
+            if (issue.getKey() != null) {
+                found.put(detailCacheKey(issue.getKey()), issue);
+            }
+        }
+    }
+
+    /**
+     * Tickets dans l'ordre de la demande, clés introuvables à part
+     */
+    private static IssueBatch toIssueBatch(Set<String> requested, Map<String, Issue> found, int readFromJira) {
+        List<Issue> issues = new ArrayList<>(requested.size());
+        List<String> missingKeys = new ArrayList<>();
+        for (String issueKey : requested) {
+            Issue issue = found.get(issueKey);
+            if (issue != null) {
+                issues.add(issue);
             } else {
-                logger.error("❌ Erreur lors de la recherche JQL. Status: {}", response.getStatusCode());
-                return new ArrayList<>();
+                missingKeys.add(issueKey);
             }
+        }
+
+        logger.info("✅ {} tickets trouvés, {} clés manquantes ({} lus dans Jira)",
+                issues.size(), missingKeys.size(), readFromJira);
+        return new IssueBatch(issues, missingKeys);
+    }
+
+    /**
+     * Découpe les clés en lots dont l'URL encodée reste sous jira.search.batch.max-url-length
+     * et qui tiennent dans une page de résultats
+     */
+    private List<List<String>> chunkKeysForUrl(List<String> issueKeys, IssueFieldSelection fields) {
+        List<List<String>> chunks = new ArrayList<>();
+        if (issueKeys.isEmpty()) {
+            return chunks;
+        }
+
+        // Longueur fixe : URL sans clé ; chaque clé ajoute sa longueur et ", " encodé (%2C%20)
+        int baseLength = searchUri("key in ()", 0, searchPageSize, fields, false).toString().length();
+        List<String> chunk = new ArrayList<>();
+        int length = baseLength;
+        for (String issueKey : issueKeys) {
+            int added = issueKey.length() + (chunk.isEmpty() ? 0 : 6);
+            if (!chunk.isEmpty() && (length + added > batchMaxUrlLength || chunk.size() >= searchPageSize)) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                length = baseLength;
+                added = issueKey.length();
+            }
+            chunk.add(issueKey);
+            length += added;
+        }
+        chunks.add(chunk);
+        return chunks;
+    }
+
+    /**
+     * Recherche des tickets par JQL (Jira Query Language)
+     */
+    public List<Issue> searchIssuesByJQL(String jql) {
+        return searchIssuesByJQL(jql, IssueFieldSelection.all());
+    }
+
+    /**
+     * Recherche des tickets par JQL en ne demandant à Jira que les champs sélectionnés
+     */
+    public List<Issue> searchIssuesByJQL(String jql, IssueFieldSelection fields) {
+        logger.info("🔍 Recherche de tickets avec JQL: {}", jql);
+
+        try {
+            URI url = searchUri(jql, 0, 100, fields);
+
+            List<Issue> issues = new ArrayList<>();
+            fetchSearchPage(url, fields, issues::add);
+
+            logger.info("✅ {} tickets trouvés pour la requête JQL", issues.size());
+            return issues;
 
         } catch (Exception e) {
             logger.error("❌ Erreur lors de la recherche JQL", e);
@@ -214,19 +585,221 @@ public class IssueService {
         }
     }
 
+    /**
+     * Recherche JQL paginée : lit le total sur la première page puis récupère
+     * les pages suivantes en parallèle (parallélisme borné) et les fusionne
+     * dans l'ordre JQL. Le nombre de résultats est plafonné par jira.search.max-results.
+     */
+    public List<Issue> searchAllIssuesByJQL(String jql, IssueFieldSelection fields) {
+        return searchAllIssuesByJQL(jql, fields, searchMaxResults);
+    }
+
+    public List<Issue> searchAllIssuesByJQL(String jql, IssueFieldSelection fields, int limit) {
+        int cap = Math.max(0, Math.min(limit, searchMaxResults));
+        logger.info("🔍 Recherche paginée de tickets avec JQL: {} (limite: {})", jql, cap);
+
+        try {
+            List<Issue> firstPage = new ArrayList<>();
+            SearchPage first = fetchSearchPage(searchUri(jql, 0, Math.min(searchPageSize, cap), fields), fields, firstPage::add);
+
+            // Jira peut réduire maxResults (jira.search.views.default.max) : on suit sa taille de page
+            int pageSize = first.getMaxResults() > 0 ? first.getMaxResults() : searchPageSize;
+            int target = Math.min(first.getTotal(), cap);
+
+            if (first.getCount() == 0 || firstPage.size() >= target) {
+                logger.info("✅ {} tickets trouvés pour la requête JQL paginée", Math.min(firstPage.size(), target));
+                return truncate(firstPage, target);
+            }
+
+            List<Integer> offsets = new ArrayList<>();
+            for (int offset = firstPage.size(); offset < target; offset += pageSize) {
+                offsets.add(offset);
+            }
+            logger.debug("📡 {} pages restantes à récupérer (total Jira: {})", offsets.size(), first.getTotal());
+
+            List<List<Issue>> pages = fetchPagesInParallel(jql, fields, offsets, pageSize, target);
+
+            List<Issue> issues = new ArrayList<>(target);
+            issues.addAll(firstPage);
+            for (List<Issue> page : pages) {
+                issues.addAll(page);
+            }
+
+            logger.info("✅ {} tickets trouvés pour la requête JQL paginée ({} pages)", Math.min(issues.size(), target), offsets.size() + 1);
+            return truncate(issues, target);
+
+        } catch (Exception e) {
+            logger.error("❌ Erreur lors de la recherche JQL paginée", e);
+            throw new RuntimeException("Erreur lors de la recherche JQL", e);
+        }
+    }
+
+    /**
+     * Recherche JQL en flux : les pages sont lues l'une après l'autre et leurs
+     * tickets transmis au consumer page par page, sans jamais matérialiser la
+     * liste complète (mémoire bornée par la taille de page).
+     * Retourne le nombre de tickets transmis, plafonné par jira.search.stream-max-results.
+     */
+    public int streamIssuesByJQL(String jql, IssueFieldSelection fields, Consumer<Issue> sink) {
+        logger.info("🌊 Recherche JQL en flux: {}", jql);
+
+        int streamed = 0;
+        int total = Integer.MAX_VALUE;
+
+        while (streamed < Math.min(total, streamMaxResults)) {
+            int pageSize = Math.min(searchPageSize, streamMaxResults - streamed);
+            SearchPage page = fetchSearchPage(searchUri(jql, streamed, pageSize, fields), fields, sink);
+
+            streamed += page.getCount();
+            total = page.getTotal();
+            if (page.getCount() == 0) {
+                break;
+            }
+        }
+
+        logger.info("✅ {} tickets transmis en flux pour la requête JQL", streamed);
+        return streamed;
+    }
+
+    /**
+     * Une seule page de résultats JQL, tickets transmis au consumer
+     * (pagination pilotée par l'appelant, ex: synchronisation du miroir)
+     */
+    public SearchPage fetchIssuesPage(String jql, int startAt, int maxResults,
+                                      IssueFieldSelection fields, Consumer<Issue> sink) {
+        return fetchSearchPage(searchUri(jql, startAt, maxResults, fields), fields, sink);
+    }
+
+    /**
+     * Répartit les pages sur au plus jira.search.parallelism voies ; chaque voie
+     * lit ses pages séquentiellement. La première voie tourne dans le thread appelant.
+     */
+    private List<List<Issue>> fetchPagesInParallel(String jql, IssueFieldSelection fields,
+                                                   List<Integer> offsets, int pageSize, int target) {
+        List<Supplier<List<Issue>>> tasks = new ArrayList<>(offsets.size());
+        for (int offset : offsets) {
+            tasks.add(() -> {
+                List<Issue> page = new ArrayList<>();
+                fetchSearchPage(searchUri(jql, offset, Math.min(pageSize, target - offset), fields), fields, page::add);
+                return page;
+            });
+        }
+        return runInLanes(tasks);
+    }
+
+    /**
+     * Exécute les tâches sur au plus jira.search.parallelism voies (jiraExecutor) ;
+     * chaque voie traite ses tâches séquentiellement et la première tourne dans
+     * le thread appelant. Les résultats sont rendus dans l'ordre des tâches.
+     */
+    private <T> List<T> runInLanes(List<Supplier<T>> tasks) {
+        int lanes = Math.max(1, Math.min(searchParallelism, tasks.size()));
+        List<T> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            results.add(null);
+        }
+
+        List<Runnable> laneTasks = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            final int firstIndex = lane;
+            laneTasks.add(() -> {
+                for (int index = firstIndex; index < tasks.size(); index += lanes) {
+                    results.set(index, tasks.get(index).get());
+                }
+            });
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(lanes - 1);
+        for (int lane = 1; lane < lanes; lane++) {
+            futures.add(CompletableFuture.runAsync(laneTasks.get(lane), jiraExecutor));
+        }
+        try {
+            laneTasks.get(0).run();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+
+        return results;
+    }
+
+    /**
+     * Variante non bloquante de runInLanes : chaque voie enchaîne ses tâches
+     * (la suivante démarre à la fin de la précédente), sans thread en attente.
+     * Les tâches sont lancées avec l'échéance du thread appelant.
+     */
+    private <T> CompletableFuture<List<T>> runInLanesAsync(List<Supplier<CompletableFuture<T>>> tasks) {
+        int lanes = Math.max(1, Math.min(searchParallelism, tasks.size()));
+        List<T> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            results.add(null);
+        }
+
+        List<CompletableFuture<Void>> laneFutures = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int index = lane; index < tasks.size(); index += lanes) {
+                final int taskIndex = index;
+                Supplier<CompletableFuture<T>> task = JiraDeadline.wrap(tasks.get(taskIndex));
+                chain = chain.thenCompose(ignored -> task.get())
+                        .thenAccept(result -> results.set(taskIndex, result));
+            }
+            laneFutures.add(chain);
+        }
+
+        return CompletableFuture.allOf(laneFutures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> results);
+    }
+
+    private boolean readsFromDatabase() {
+        return "db".equalsIgnoreCase(readBackend);
+    }
+
+    /**
+     * Clé du cache des détails : "proj-1 " et "PROJ-1" désignent la même entrée
+     */
+    private static String detailCacheKey(String issueKey) {
+        return issueKey.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Tri par date de création décroissante (sans date en dernier) ; chaque date
+     * n'est convertie qu'une fois, pas à chaque comparaison
+     */
+    private static void sortNewestFirst(List<Issue> issues) {
+        Map<Issue, Long> created = new IdentityHashMap<>(issues.size());
+        for (Issue issue : issues) {
+            created.put(issue, IssueMirror.toEpochMillis(issue.getCreated()));
+        }
+        issues.sort(Comparator.comparing(created::get, Comparator.nullsLast(Comparator.reverseOrder())));
+    }
+
+    private static List<Issue> truncate(List<Issue> issues, int size) {
+        return issues.size() > size ? new ArrayList<>(issues.subList(0, size)) : issues;
+    }
+
     /**
      * Recherche simple de tickets par texte
      */
     public List<Issue> searchIssues(String searchTerm) {
+        return searchIssues(searchTerm, IssueFieldSelection.all());
+    }
+
+    public List<Issue> searchIssues(String searchTerm, IssueFieldSelection fields) {
         logger.info("🔍 Recherche de tickets avec le terme: '{}'", searchTerm);
 
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return getAllIssues();
+            return getAllIssues(0, 50, fields);
+        }
+
+        List<Issue> hits = searchLocalIndex(searchTerm);
+        if (hits != null) {
+            return hits;
         }
 
         try {
-            String jql = "text ~ \"" + searchTerm + "\" ORDER BY updated DESC";
-            return searchIssuesByJQL(jql);
+            return searchIssuesByJQL(textSearchJql(searchTerm), fields);
         } catch (Exception e) {
             logger.error("❌ Erreur lors de la recherche de tickets", e);
             throw new RuntimeException("Erreur lors de la recherche de tickets", e);
@@ -234,79 +807,423 @@ public class IssueService {
     }
 
     /**
-     * Mappe un JsonNode Jira vers notre entité Issue simplifiée
+     * Résultats de l'index local, ou null si la recherche doit passer par JQL
      */
-    private Issue mapJsonToIssue(JsonNode jsonIssue) {
-        Issue issue = new Issue();
+    private List<Issue> searchLocalIndex(String searchTerm) {
+        // Index partiel (tickets déjà vus par ce nœud) : seule une recherche JQL est exhaustive
+        if (!searchIndexEnabled || !issueMirror.isReady() || !searchIndex.isComplete()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        List<Issue> hits = searchIndex.search(searchTerm, SEARCH_RESULTS);
+        if (hits.isEmpty() && searchIndexFallback) {
+            logger.debug("🔍 Aucun résultat dans l'index local, recherche JQL");
+            return null;
+        }
+        logger.info("✅ {} tickets trouvés dans l'index local en {} µs", hits.size(),
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        return hits;
+    }
 
-        // Propriétés de base
-        issue.setId(getJsonString(jsonIssue, "id"));
-        issue.setKey(getJsonString(jsonIssue, "key"));
+    private static String textSearchJql(String searchTerm) {
+        return "text ~ \"" + searchTerm + "\" ORDER BY updated DESC";
+    }
 
-        // Champs (fields)
-        JsonNode fields = jsonIssue.get("fields");
-        if (fields != null) {
-            // Summary et Description
-            issue.setSummary(getJsonString(fields, "summary"));
-            issue.setDescription(getJsonString(fields, "description"));
+    // ========== VARIANTES ASYNCHRONES ==========
+    // Appels Jira par le WebClient non bloquant : aucun thread n'attend la
+    // réponse. Les lectures base Jira / miroir, bloquantes, passent par jiraExecutor.
 
-            // Status
-            JsonNode status = fields.get("status");
-            if (status != null) {
-                issue.setStatus(getJsonString(status, "name"));
-            }
+    public CompletableFuture<List<Issue>> getAllIssuesAsync(int startAt, int maxResults, IssueFieldSelection fields) {
+        logger.info("🎫 Récupération asynchrone des tickets Jira (startAt: {}, maxResults: {})", startAt, maxResults);
 
-            // Priority
-            JsonNode priority = fields.get("priority");
-            if (priority != null) {
-                issue.setPriority(getJsonString(priority, "name"));
-            }
+        return failWith("Erreur lors de la récupération des tickets", () ->
+                fetchSearchPageAsync(searchUri(null, startAt, maxResults, fields), fields)
+                        .thenApply(fetched -> {
+                            logger.info("✅ {} tickets récupérés avec succès", fetched.issues.size());
+                            return fetched.issues;
+                        }));
+    }
 
-            // Issue Type
-            JsonNode issueType = fields.get("issuetype");
-            if (issueType != null) {
-                issue.setIssueType(getJsonString(issueType, "name"));
-            }
+    /**
+     * Détails d'un ticket : servis depuis le cache sans aller-retour s'ils y sont
+     */
+    public CompletableFuture<Issue> getIssueDetailsAsync(String issueKey, IssueFieldSelection fields) {
+        logger.info("🔍 Récupération asynchrone des détails du ticket: {}", issueKey);
 
-            // Assignee
-            JsonNode assignee = fields.get("assignee");
-            if (assignee != null && !assignee.isNull()) {
-                issue.setAssignee(getJsonString(assignee, "displayName"));
-            }
+        Issue cached = issueDetailCache.getIfPresent(detailCacheKey(issueKey));
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        if (readsFromDatabase()) {
+            return CompletableFuture.supplyAsync(() -> getIssueDetails(issueKey, fields), jiraExecutor);
+        }
 
-            // Reporter
-            JsonNode reporter = fields.get("reporter");
-            if (reporter != null) {
-                issue.setReporter(getJsonString(reporter, "displayName"));
+        return failWith("Erreur lors de la récupération du ticket: " + issueKey, () -> {
+            URI url = issueUri(issueKey, fields);
+            HttpHeaders headers = createAuthHeaders();
+
+            return requestCoalescer.executeAsync("issue", url, headers.getFirst(HttpHeaders.AUTHORIZATION), () ->
+                    jiraWebClient.get()
+                            .uri(url)
+                            .headers(h -> h.addAll(headers))
+                            .retrieve()
+                            .onStatus(status -> status == HttpStatus.NOT_FOUND,
+                                    response -> Mono.error(new RuntimeException("Ticket non trouvé: " + issueKey)))
+                            .bodyToMono(byte[].class)
+                            // Parsing (CPU) hors des threads d'E/S
+                            .publishOn(Schedulers.parallel())
+                            .map(body -> parse(() -> issueParser.parseIssue(new ByteArrayInputStream(body))))
+                            .toFuture())
+                    .thenApply(issue -> {
+                        if (fields.isAll()) {
+                            issueDetailCache.put(detailCacheKey(issueKey), issue);
+                            searchIndex.index(issue);
+                        }
+                        logger.info("✅ Détails du ticket '{}' récupérés avec succès", issue.getSummary());
+                        return issue;
+                    });
+        });
+    }
+
+    public CompletableFuture<List<Issue>> getIssuesByProjectAsync(String projectKey, IssueFieldSelection fields) {
+        if (readsFromDatabase() || issueMirror.isReady()) {
+            return CompletableFuture.supplyAsync(() -> getIssuesByProject(projectKey, fields), jiraExecutor);
+        }
+        logger.info("📂 Récupération asynchrone des tickets du projet: {}", projectKey);
+        return failWith("Erreur lors de la récupération des tickets du projet: " + projectKey, () ->
+                searchAllIssuesByJQLAsync("project = " + projectKey + " ORDER BY created DESC", fields));
+    }
+
+    public CompletableFuture<List<Issue>> getIssuesByAssigneeAsync(String assigneeUsername, IssueFieldSelection fields) {
+        if (readsFromDatabase() || issueMirror.isReady()) {
+            return CompletableFuture.supplyAsync(() -> getIssuesByAssignee(assigneeUsername, fields), jiraExecutor);
+        }
+        logger.info("👤 Récupération asynchrone des tickets assignés à: {}", assigneeUsername);
+        return failWith("Erreur lors de la récupération des tickets assignés", () ->
+                searchAllIssuesByJQLAsync("assignee = " + assigneeUsername + " ORDER BY updated DESC", fields));
+    }
+
+    public CompletableFuture<List<Issue>> getIssuesByStatusAsync(String status, IssueFieldSelection fields) {
+        if (readsFromDatabase() || issueMirror.isReady()) {
+            return CompletableFuture.supplyAsync(() -> getIssuesByStatus(status, fields), jiraExecutor);
+        }
+        logger.info("📊 Récupération asynchrone des tickets avec le statut: {}", status);
+        return failWith("Erreur lors de la récupération des tickets par statut", () ->
+                searchAllIssuesByJQLAsync("status = \"" + status + "\" ORDER BY updated DESC", fields));
+    }
+
+    /**
+     * Comme getIssuesByProjects : les recherches project in (...) sont lues
+     * l'une après l'autre, chacune paginée en parallèle
+     */
+    public CompletableFuture<List<Issue>> getIssuesByProjectsAsync(Collection<String> projectKeys, IssueFieldSelection fields) {
+        if (readsFromDatabase() || issueMirror.isReady()) {
+            return CompletableFuture.supplyAsync(() -> getIssuesByProjects(projectKeys, fields), jiraExecutor);
+        }
+        Set<String> keys = requestedProjectKeys(projectKeys);
+        logger.info("📂 Récupération asynchrone des tickets de {} projets", keys.size());
+
+        List<String> projectQueries = projectQueries(keys);
+        boolean merged = projectQueries.size() > 1;
+        IssueFieldSelection searchFields = merged ? fields.with("created") : fields;
+        // Les recherches suivantes partent d'un thread Reactor : on y reporte l'échéance de la requête
+        Long deadline = JiraDeadline.current();
+
+        return failWith("Erreur lors de la récupération des tickets des projets: " + keys, () -> {
+            CompletableFuture<List<Issue>> chain = CompletableFuture.completedFuture(new ArrayList<>());
+            for (String jql : projectQueries) {
+                chain = chain.thenCompose(issues -> JiraDeadline.callWith(deadline, () -> searchAllIssuesByJQLAsync(jql, searchFields))
+                        .thenApply(found -> {
+                            issues.addAll(found);
+                            return issues;
+                        }));
             }
+            return chain.thenApply(issues -> {
+                if (merged) {
+                    sortNewestFirst(issues);
+                }
+                logger.info("✅ {} tickets récupérés pour {} projets", issues.size(), keys.size());
+                return issues;
+            });
+        });
+    }
 
-            // Project
-            JsonNode project = fields.get("project");
-            if (project != null) {
-                issue.setProjectKey(getJsonString(project, "key"));
-                issue.setProjectName(getJsonString(project, "name"));
+    /**
+     * Comme getIssuesByKeys : cache, puis base Jira ou miroir (jiraExecutor),
+     * puis recherches key in (...) non bloquantes pour les clés restantes
+     */
+    public CompletableFuture<IssueBatch> getIssuesByKeysAsync(Collection<String> issueKeys, IssueFieldSelection fields) {
+        Set<String> requested = requestedIssueKeys(issueKeys);
+        logger.info("🔍 Récupération asynchrone de {} tickets par clés", requested.size());
+
+        Map<String, Issue> found = new HashMap<>();
+        List<String> cachedMisses = lookUpCachedIssues(requested, found);
+        Long deadline = JiraDeadline.current();
+
+        return failWith("Erreur lors de la récupération des tickets par clés", () -> {
+            CompletableFuture<List<String>> toFetch = !cachedMisses.isEmpty() && (readsFromDatabase() || issueMirror.isReady())
+                    ? CompletableFuture.supplyAsync(() -> readStoredIssues(cachedMisses, fields, found), jiraExecutor)
+                    : CompletableFuture.completedFuture(cachedMisses);
+
+            return toFetch.thenCompose(keys -> {
+                List<Supplier<CompletableFuture<List<Issue>>>> tasks = new ArrayList<>();
+                for (List<String> chunk : chunkKeysForUrl(keys, fields)) {
+                    URI url = searchUri("key in (" + String.join(", ", chunk) + ")", 0, chunk.size(), fields, false);
+                    tasks.add(() -> fetchSearchPageAsync(url, fields).thenApply(fetched -> fetched.issues));
+                }
+                return JiraDeadline.callWith(deadline, () -> runInLanesAsync(tasks)).thenApply(results -> {
+                    for (List<Issue> issues : results) {
+                        addFetchedIssues(issues, found);
+                    }
+                    return toIssueBatch(requested, found, keys.size());
+                });
+            });
+        });
+    }
+
+    /**
+     * Comme searchIssues : index local s'il est complet, sinon recherche JQL
+     */
+    public CompletableFuture<List<Issue>> searchIssuesAsync(String searchTerm, IssueFieldSelection fields) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return getAllIssuesAsync(0, 50, fields);
+        }
+
+        List<Issue> hits = searchLocalIndex(searchTerm);
+        if (hits != null) {
+            return CompletableFuture.completedFuture(hits);
+        }
+        logger.info("🔍 Recherche asynchrone de tickets avec le terme: '{}'", searchTerm);
+        return failWith("Erreur lors de la recherche de tickets", () ->
+                searchIssuesByJQLAsync(textSearchJql(searchTerm), fields));
+    }
+
+    public CompletableFuture<List<Issue>> searchIssuesByJQLAsync(String jql, IssueFieldSelection fields) {
+        logger.info("🔍 Recherche asynchrone de tickets avec JQL: {}", jql);
+
+        return failWith("Erreur lors de la recherche JQL", () ->
+                fetchSearchPageAsync(searchUri(jql, 0, 100, fields), fields)
+                        .thenApply(fetched -> {
+                            logger.info("✅ {} tickets trouvés pour la requête JQL", fetched.issues.size());
+                            return fetched.issues;
+                        }));
+    }
+
+    /**
+     * Même pagination que searchAllIssuesByJQL : total lu sur la première page,
+     * puis pages suivantes sur au plus jira.search.parallelism voies
+     */
+    public CompletableFuture<List<Issue>> searchAllIssuesByJQLAsync(String jql, IssueFieldSelection fields) {
+        int cap = Math.max(0, searchMaxResults);
+        logger.info("🔍 Recherche paginée asynchrone de tickets avec JQL: {} (limite: {})", jql, cap);
+        // Les pages suivantes partent d'un thread Reactor : on y reporte l'échéance de la requête
+        Long deadline = JiraDeadline.current();
+
+        return failWith("Erreur lors de la recherche JQL", () ->
+                fetchSearchPageAsync(searchUri(jql, 0, Math.min(searchPageSize, cap), fields), fields)
+                        .thenCompose(first -> {
+                            int pageSize = first.page.getMaxResults() > 0 ? first.page.getMaxResults() : searchPageSize;
+                            int target = Math.min(first.page.getTotal(), cap);
+
+                            if (first.page.getCount() == 0 || first.issues.size() >= target) {
+                                return CompletableFuture.completedFuture(truncate(first.issues, target));
+                            }
+
+                            List<Supplier<CompletableFuture<List<Issue>>>> pages = new ArrayList<>();
+                            for (int offset = first.issues.size(); offset < target; offset += pageSize) {
+                                URI url = searchUri(jql, offset, Math.min(pageSize, target - offset), fields);
+                                pages.add(() -> fetchSearchPageAsync(url, fields).thenApply(fetched -> fetched.issues));
+                            }
+                            logger.debug("📡 {} pages restantes à récupérer (total Jira: {})", pages.size(), first.page.getTotal());
+
+                            return JiraDeadline.callWith(deadline, () -> runInLanesAsync(pages)).thenApply(rest -> {
+                                List<Issue> issues = new ArrayList<>(target);
+                                issues.addAll(first.issues);
+                                rest.forEach(issues::addAll);
+                                logger.info("✅ {} tickets trouvés pour la requête JQL paginée ({} pages)",
+                                        Math.min(issues.size(), target), rest.size() + 1);
+                                return truncate(issues, target);
+                            });
+                        }));
+    }
+
+    /**
+     * Erreur (synchrone ou asynchrone) enveloppée dans une RuntimeException
+     * portant le message métier, comme les variantes bloquantes
+     */
+    private static <T> CompletableFuture<T> failWith(String message, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        return future.handle((result, error) -> {
+            if (error == null) {
+                return result;
             }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            logger.error("❌ {}", message, cause);
+            // Ticket absent : le message est gardé tel quel (404 côté contrôleur)
+            if (cause instanceof RuntimeException && cause.getMessage() != null && cause.getMessage().contains("non trouvé")) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(message, cause);
+        });
+    }
+
+    /**
+     * Construit l'URL /rest/api/2/search ; jql et fields sont encodés comme valeurs
+     * de paramètre (pas de double encodage par le RestTemplate)
+     */
+    private URI searchUri(String jql, int startAt, int maxResults, IssueFieldSelection fields) {
+        return searchUri(jql, startAt, maxResults, fields, true);
+    }
 
-            // Dates
-            issue.setCreated(getJsonString(fields, "created"));
-            issue.setUpdated(getJsonString(fields, "updated"));
+    /**
+     * validateQuery=false : Jira ignore (avec un avertissement) les valeurs inconnues
+     * d'une clause in (...) au lieu de rejeter toute la requête
+     */
+    private URI searchUri(String jql, int startAt, int maxResults, IssueFieldSelection fields, boolean validateQuery) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(jiraServerUrl)
+                .path("/rest/api/2/search");
+        Map<String, Object> variables = new HashMap<>();
 
-            // Resolution
-            JsonNode resolution = fields.get("resolution");
-            if (resolution != null && !resolution.isNull()) {
-                issue.setResolution(getJsonString(resolution, "name"));
+        if (jql != null) {
+            builder.queryParam("jql", "{jql}");
+            variables.put("jql", jql);
+        }
+        builder.queryParam("startAt", startAt)
+                .queryParam("maxResults", maxResults)
+                .queryParam("fields", "{fields}");
+        variables.put("fields", fields.toJiraFields());
+        if (!validateQuery) {
+            builder.queryParam("validateQuery", false);
+        }
+
+        return builder.encode().buildAndExpand(variables).toUri();
+    }
+
+    /**
+     * Appelle /rest/api/2/search et parse la réponse en streaming. Les appels
+     * identiques simultanés sont regroupés : la page (au plus maxResults tickets)
+     * est lue une fois puis transmise au consumer de chaque appelant.
+     */
+    private SearchPage fetchSearchPage(URI url, IssueFieldSelection fields, Consumer<Issue> sink) {
+        HttpHeaders headers = createAuthHeaders();
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        FetchedPage fetched = requestCoalescer.execute("search", url, headers.getFirst(HttpHeaders.AUTHORIZATION), () ->
+                restTemplate.execute(url, HttpMethod.GET, restTemplate.httpEntityCallback(entity), response -> {
+                    if (response.getStatusCode() != HttpStatus.OK) {
+                        logger.error("❌ Erreur lors de la recherche de tickets. Status: {}", response.getStatusCode());
+                        return new FetchedPage(SearchPage.empty(), new ArrayList<>());
+                    }
+                    List<Issue> issues = new ArrayList<>();
+                    try (InputStream body = response.getBody()) {
+                        return new FetchedPage(issueParser.parseSearchResponse(body, issues::add), issues);
+                    }
+                }));
+
+        for (Issue issue : fetched.issues) {
+            syncDetailCache(issue, fields);
+            if (fields.isAll()) {
+                searchIndex.index(issue);
             }
+            sink.accept(issue);
+        }
+        return fetched.page;
+    }
+
+    /**
+     * Variante non bloquante de fetchSearchPage : la page est lue en entier
+     * (au plus jira.http.max-in-memory-size) puis parsée hors des threads d'E/S
+     */
+    private CompletableFuture<FetchedPage> fetchSearchPageAsync(URI url, IssueFieldSelection fields) {
+        HttpHeaders headers = createAuthHeaders();
+
+        return requestCoalescer.executeAsync("search", url, headers.getFirst(HttpHeaders.AUTHORIZATION), () ->
+                jiraWebClient.get()
+                        .uri(url)
+                        .headers(h -> h.addAll(headers))
+                        .retrieve()
+                        .bodyToMono(byte[].class)
+                        .publishOn(Schedulers.parallel())
+                        .map(body -> parse(() -> {
+                            List<Issue> issues = new ArrayList<>();
+                            SearchPage page = issueParser.parseSearchResponse(new ByteArrayInputStream(body), issues::add);
+                            return new FetchedPage(page, issues);
+                        }))
+                        .defaultIfEmpty(new FetchedPage(SearchPage.empty(), new ArrayList<>()))
+                        .toFuture())
+                .thenApply(fetched -> {
+                    for (Issue issue : fetched.issues) {
+                        syncDetailCache(issue, fields);
+                        if (fields.isAll()) {
+                            searchIndex.index(issue);
+                        }
+                    }
+                    // Copie : la page peut être partagée entre appelants regroupés
+                    return new FetchedPage(fetched.page, new ArrayList<>(fetched.issues));
+                });
+    }
+
+    private static <T> T parse(JsonParsing<T> parsing) {
+        try {
+            return parsing.parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Réponse Jira illisible", e);
         }
+    }
+
+    @FunctionalInterface
+    private interface JsonParsing<T> {
+        T parse() throws IOException;
+    }
 
-        return issue;
+    private URI issueUri(String issueKey, IssueFieldSelection fields) {
+        return UriComponentsBuilder.fromHttpUrl(jiraServerUrl)
+                .path("/rest/api/2/issue/{issueKey}")
+                .queryParam("fields", "{fields}")
+                .encode()
+                .buildAndExpand(issueKey, fields.toJiraFields())
+                .toUri();
     }
 
     /**
-     * Utilitaire pour extraire une chaîne d'un JsonNode
+     * Page de recherche lue, partageable entre appelants regroupés
      */
-    private String getJsonString(JsonNode node, String fieldName) {
-        JsonNode field = node.get(fieldName);
-        return (field != null && !field.isNull()) ? field.asText() : null;
+    private static final class FetchedPage {
+        final SearchPage page;
+        final List<Issue> issues;
+
+        FetchedPage(SearchPage page, List<Issue> issues) {
+            this.page = page;
+            this.issues = issues;
+        }
+    }
+
+    /**
+     * Garde le cache des détails cohérent avec les listes : si une recherche
+     * montre une autre date de mise à jour pour un ticket en cache, l'entrée est
+     * remplacée (tous les champs présents) ou invalidée (champs partiels)
+     */
+    private void syncDetailCache(Issue issue, IssueFieldSelection fields) {
+        if (issue.getKey() == null || issue.getUpdated() == null) {
+            return;
+        }
+
+        String cacheKey = detailCacheKey(issue.getKey());
+        Issue cached = issueDetailCache.getIfPresent(cacheKey);
+        if (cached != null && !issue.getUpdated().equals(cached.getUpdated())) {
+            if (fields.isAll()) {
+                issueDetailCache.put(cacheKey, issue);
+            } else {
+                issueDetailCache.invalidate(cacheKey);
+            }
+            detailInvalidations.increment();
+        }
     }
 
     /**
@@ -20,19 +20,29 @@ public class JiraApiService {
     private static final Logger logger = LoggerFactory.getLogger(JiraApiService.class);
 
     private final RestTemplate restTemplate;
+    private final JiraRequestCoalescer requestCoalescer;
+    private final JiraHealthProber healthProber;
     private final String baseUrl;
     private final String adminAuth;
 
     public JiraApiService(
+            RestTemplate restTemplate,
+            JiraRequestCoalescer requestCoalescer,
+            JiraHealthProber healthProber,
             @Value("${jira.api.base-url}") String baseUrl,
             @Value("${jira.api.username}") String adminUsername,
             @Value("${jira.api.token}") String adminToken) {
 
-        this.restTemplate = new RestTemplate();
+        this.restTemplate = restTemplate;
+        this.requestCoalescer = requestCoalescer;
+        this.healthProber = healthProber;
         this.baseUrl = baseUrl;
         String auth = adminUsername + ":" + adminToken;
         this.adminAuth = "Basic " + Base64.getEncoder().encodeToString(auth.getBytes());
 
+        // Vérifiée en arrière-plan : une mauvaise configuration jira.api.* apparaît dans la santé Jira
+        healthProber.register(JiraHealthProber.API, this::checkAdminCredentials);
+
         logger.info("JiraApiService initialisé avec baseUrl: {}", baseUrl);
         logger.info("Admin username configuré: {}", adminUsername);
     }
@@ -44,6 +54,17 @@ public class JiraApiService {
      * @return true si les identifiants sont valides, false sinon
      */
     public boolean validateCredentials(String username, String password) {
+        return getMyself(username, password) != null;
+    }
+
+    /**
+     * Appelle /rest/api/2/myself avec les identifiants de l'utilisateur : valide les
+     * identifiants et renvoie son profil Jira (name, active...) en un seul appel
+     * @param username Nom d'utilisateur
+     * @param password Mot de passe
+     * @return Profil de l'utilisateur, ou null si les identifiants sont refusés
+     */
+    public Map<String, Object> getMyself(String username, String password) {
         try {
             HttpHeaders headers = new HttpHeaders();
             String auth = username + ":" + password;
@@ -55,16 +76,17 @@ public class JiraApiService {
             logger.info("Tentative de validation des identifiants pour l'utilisateur: {} avec URL: {}", username, url);
 
             try {
-                ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+                ResponseEntity<Map<String, Object>> response = requestCoalescer.execute("myself", url, encodedAuth,
+                        () -> restTemplate.exchange(url, HttpMethod.GET, entity, new ParameterizedTypeReference<Map<String, Object>>() {}));
                 logger.info("Validation réussie pour l'utilisateur: {}, code de statut: {}", username, response.getStatusCode());
-                return response.getStatusCode().is2xxSuccessful();
+                return response.getStatusCode().is2xxSuccessful() && response.getBody() != null ? response.getBody() : null;
             } catch (HttpClientErrorException e) {
                 logger.error("Erreur lors de la validation des identifiants: {} - {}", e.getStatusCode(), e.getMessage());
-                return false;
+                return null;
             }
         } catch (Exception e) {
             logger.error("Exception lors de la validation des identifiants: {}", e.getMessage(), e);
-            return false;
+            return null;
         }
     }
 
@@ -82,7 +104,8 @@ public class JiraApiService {
             String url = baseUrl + "/rest/api/2/user?username=" + username;
             logger.info("Récupération des informations pour l'utilisateur: {} avec URL: {}", username, url);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            ResponseEntity<Map> response = requestCoalescer.execute("user", url, adminAuth,
+                    () -> restTemplate.exchange(url, HttpMethod.GET, entity, Map.class));
             logger.info("Informations récupérées pour l'utilisateur: {}", username);
             return response.getBody();
         } catch (HttpClientErrorException e) {
@@ -108,7 +131,8 @@ public class JiraApiService {
             String url = baseUrl + "/rest/api/2/user/search?query=" + email;
             logger.info("Recherche d'utilisateur par email: {} avec URL: {}", email, url);
 
-            ResponseEntity<Map[]> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map[].class);
+            ResponseEntity<Map[]> response = requestCoalescer.execute("user-search", url, adminAuth,
+                    () -> restTemplate.exchange(url, HttpMethod.GET, entity, Map[].class));
 
             Map[] users = response.getBody();
             if (users != null && users.length > 0) {
@@ -147,12 +171,9 @@ public class JiraApiService {
             logger.info("Base URL configurée: {}", baseUrl);
             logger.info("Tentative de récupération des projets...");
 
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {}
-            );
+            ResponseEntity<List<Map<String, Object>>> response = requestCoalescer.execute("projects", url, userAuth,
+                    () -> restTemplate.exchange(url, HttpMethod.GET, entity,
+                            new ParameterizedTypeReference<List<Map<String, Object>>>() {}));
 
             logger.info("✅ Projets récupérés avec succès!");
             logger.info("Code de statut: {}", response.getStatusCode());
@@ -247,7 +268,8 @@ public class JiraApiService {
             String url = baseUrl + "/rest/api/2/project/" + projectIdOrKey;
             logger.info("Récupération des détails du projet {} avec URL: {}", projectIdOrKey, url);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            ResponseEntity<Map> response = requestCoalescer.execute("project-map", url, userAuth,
+                    () -> restTemplate.exchange(url, HttpMethod.GET, entity, Map.class));
             logger.info("Détails du projet récupérés avec succès pour: {}", projectIdOrKey);
 
             return response.getBody();
@@ -262,29 +284,31 @@ public class JiraApiService {
     }
 
     /**
-     * Teste la connectivité avec l'API Jira
+     * Vérification de santé : les identifiants admin sont acceptés par
+     * jira.api.base-url (/rest/api/2/myself). Une erreur HTTP est remontée au prober.
+     */
+    boolean checkAdminCredentials() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", adminAuth);
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<Map> response = restTemplate.exchange(baseUrl + "/rest/api/2/myself",
+                HttpMethod.GET, entity, Map.class);
+        return response.getStatusCode().is2xxSuccessful();
+    }
+
+    /**
+     * Teste la connectivité avec l'API Jira : dernier résultat de la vérification
+     * des identifiants admin faite en arrière-plan (JiraHealthProber), sans appel à Jira
      * @return true si la connexion fonctionne, false sinon
      */
     public boolean testJiraConnection() {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", adminAuth);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            String url = baseUrl + "/rest/api/2/myself";
-            logger.info("=== TEST DE CONNECTIVITÉ JIRA ===");
-            logger.info("URL de test: {}", url);
-
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-
-            logger.info("✅ Connexion à Jira réussie!");
-            logger.info("Code de statut: {}", response.getStatusCode());
-            logger.info("Utilisateur connecté: {}", response.getBody());
-
-            return true;
-        } catch (Exception e) {
-            logger.error("❌ Échec de la connexion à Jira: {}", e.getMessage());
-            return false;
+        boolean connected = healthProber.isHealthy(JiraHealthProber.API);
+        if (connected) {
+            logger.info("✅ Connexion à Jira disponible (dernière vérification)");
+        } else {
+            logger.error("❌ Connexion à Jira indisponible (dernière vérification)");
         }
+        return connected;
     }
 }
\ No newline at end of file
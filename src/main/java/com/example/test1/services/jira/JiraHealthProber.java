@@ -0,0 +1,178 @@
+package com.example.test1.services.jira;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Vérifie la santé de Jira en arrière-plan toutes les jira.health.interval-ms
+ * et garde en mémoire le dernier résultat et un historique borné par
+ * vérification. Les endpoints de santé lisent ces résultats sans appeler Jira,
+ * quel que soit le nombre de sondes (répartiteur de charge, supervision).
+ */
+@Component
+public class JiraHealthProber {
+
+    private static final Logger logger = LoggerFactory.getLogger(JiraHealthProber.class);
+
+    public static final String PROJECTS = "projects";
+    public static final String ISSUES = "issues";
+    // Identifiants admin sur jira.api.base-url, enregistrée par JiraApiService
+    public static final String API = "api";
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jira.health.history-size:20}")
+    private int historySize;
+
+    // Au-delà, le dernier résultat n'est plus considéré comme valide (sonde bloquée)
+    @Value("${jira.health.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    private final Map<String, BooleanSupplier> checks = new ConcurrentSkipListMap<>();
+    private final Map<String, JiraHealthStatus> latest = new ConcurrentHashMap<>();
+    private final Map<String, Deque<JiraHealthStatus>> history = new HashMap<>();
+    private final ReentrantLock historyLock = new ReentrantLock();
+
+    @PostConstruct
+    void initChecks() {
+        // /rest/api/2/serverInfo et /rest/api/2/search?maxResults=1
+        register(PROJECTS, projectService::validateJiraConfiguration);
+        register(ISSUES, issueService::validateJiraConfiguration);
+    }
+
+    /**
+     * Ajoute une vérification, exécutée à chaque passage de probe()
+     */
+    public void register(String check, BooleanSupplier probe) {
+        historyLock.lock();
+        try {
+            history.putIfAbsent(check, new ArrayDeque<>(historySize));
+        } finally {
+            historyLock.unlock();
+        }
+        if (checks.putIfAbsent(check, probe) == null) {
+            meterRegistry.gauge("jira.health.up", Tags.of("check", check), this,
+                    prober -> prober.isHealthy(check) ? 1 : 0);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${jira.health.initial-delay-ms:0}",
+            fixedDelayString = "${jira.health.interval-ms:15000}")
+    public void probe() {
+        for (Map.Entry<String, BooleanSupplier> check : checks.entrySet()) {
+            record(run(check.getKey(), check.getValue()));
+        }
+    }
+
+    private JiraHealthStatus run(String check, BooleanSupplier probe) {
+        long start = System.nanoTime();
+        boolean healthy;
+        String error = null;
+        try {
+            healthy = probe.getAsBoolean();
+            if (!healthy) {
+                error = "Configuration Jira invalide";
+            }
+        } catch (RuntimeException e) {
+            healthy = false;
+            error = e.getMessage();
+        }
+        long latencyNanos = System.nanoTime() - start;
+        meterRegistry.timer("jira.health.latency", "check", check).record(latencyNanos, TimeUnit.NANOSECONDS);
+
+        return new JiraHealthStatus(check, healthy, TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+                System.currentTimeMillis(), error);
+    }
+
+    private void record(JiraHealthStatus status) {
+        JiraHealthStatus previous = latest.put(status.getCheck(), status);
+        if (previous == null || previous.isHealthy() != status.isHealthy()) {
+            if (status.isHealthy()) {
+                logger.info("✅ Santé Jira '{}' : disponible ({} ms)", status.getCheck(), status.getLatencyMs());
+            } else {
+                logger.warn("⚠️ Santé Jira '{}' : indisponible ({})", status.getCheck(), status.getError());
+            }
+        }
+
+        historyLock.lock();
+        try {
+            Deque<JiraHealthStatus> entries = history.get(status.getCheck());
+            if (entries.size() >= historySize) {
+                entries.removeFirst();
+            }
+            entries.addLast(status);
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    /**
+     * Dernier résultat de la vérification, null avant la première vérification
+     */
+    public JiraHealthStatus getStatus(String check) {
+        return latest.get(check);
+    }
+
+    /**
+     * Historique de la vérification, du plus ancien au plus récent
+     */
+    public List<JiraHealthStatus> getHistory(String check) {
+        historyLock.lock();
+        try {
+            Deque<JiraHealthStatus> entries = history.get(check);
+            return entries == null ? new ArrayList<>() : new ArrayList<>(entries);
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    /**
+     * Dernier résultat en succès et assez récent
+     */
+    public boolean isHealthy(String check) {
+        JiraHealthStatus status = latest.get(check);
+        return status != null && status.isHealthy() && !isStale(status);
+    }
+
+    /**
+     * Jira disponible pour toutes les vérifications
+     */
+    public boolean isHealthy() {
+        for (String check : checks.keySet()) {
+            if (!isHealthy(check)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isStale(JiraHealthStatus status) {
+        return System.currentTimeMillis() - status.getCheckedAt() > maxAgeMs;
+    }
+}
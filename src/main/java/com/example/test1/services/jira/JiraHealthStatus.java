@@ -0,0 +1,47 @@
+package com.example.test1.services.jira;
+
+/**
+ * Résultat d'une vérification de santé Jira faite en arrière-plan
+ */
+public class JiraHealthStatus {
+
+    private final String check;
+    private final boolean healthy;
+    private final long latencyMs;
+    private final long checkedAt;
+    private final String error;
+
+    public JiraHealthStatus(String check, boolean healthy, long latencyMs, long checkedAt, String error) {
+        this.check = check;
+        this.healthy = healthy;
+        this.latencyMs = latencyMs;
+        this.checkedAt = checkedAt;
+        this.error = error;
+    }
+
+    public String getCheck() {
+        return check;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    /**
+     * Date de la vérification (epoch ms)
+     */
+    public long getCheckedAt() {
+        return checkedAt;
+    }
+
+    /**
+     * Cause de l'échec, null si la vérification a réussi
+     */
+    public String getError() {
+        return error;
+    }
+}
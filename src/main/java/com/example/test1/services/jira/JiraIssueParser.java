@@ -0,0 +1,214 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Parseur Jackson en streaming (niveau token) pour les réponses Jira.
+ * Remplit directement les objets Issue depuis le flux HTTP, sans construire
+ * d'arbre JsonNode ni de copie String de la réponse ; les champs inconnus
+ * (champs personnalisés, rendus...) sont sautés.
+ */
+@Component
+public class JiraIssueParser {
+
+    private final JsonFactory jsonFactory;
+
+    public JiraIssueParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Parse une réponse /rest/api/2/search et transmet chaque ticket au consumer
+     * au fur et à mesure de la lecture
+     */
+    public SearchPage parseSearchResponse(InputStream body, Consumer<Issue> sink) throws IOException {
+        SearchPage page = new SearchPage();
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Réponse de recherche Jira invalide: objet JSON attendu");
+            }
+
+            int count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+
+                switch (name) {
+                    case "startAt":
+                        page.setStartAt(parser.getValueAsInt());
+                        break;
+                    case "maxResults":
+                        page.setMaxResults(parser.getValueAsInt());
+                        break;
+                    case "total":
+                        page.setTotal(parser.getValueAsInt());
+                        break;
+                    case "issues":
+                        if (token == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                sink.accept(readIssue(parser));
+                                count++;
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            page.setCount(count);
+        }
+
+        return page;
+    }
+
+    /**
+     * Parse une réponse /rest/api/2/issue/{key}
+     */
+    public Issue parseIssue(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Réponse de ticket Jira invalide: objet JSON attendu");
+            }
+            return readIssue(parser);
+        }
+    }
+
+    /**
+     * Lit un ticket ; le parseur est positionné sur le START_OBJECT du ticket
+     */
+    private Issue readIssue(JsonParser parser) throws IOException {
+        Issue issue = new Issue();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+
+            switch (name) {
+                case "id":
+                    issue.setId(readText(parser));
+                    break;
+                case "key":
+                    issue.setKey(readText(parser));
+                    break;
+                case "fields":
+                    if (token == JsonToken.START_OBJECT) {
+                        readFields(parser, issue);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return issue;
+    }
+
+    private void readFields(JsonParser parser, Issue issue) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (name) {
+                case "summary":
+                    issue.setSummary(readText(parser));
+                    break;
+                case "description":
+                    issue.setDescription(readText(parser));
+                    break;
+                case "status":
+                    issue.setStatus(readProperties(parser, "name")[0]);
+                    break;
+                case "priority":
+                    issue.setPriority(readProperties(parser, "name")[0]);
+                    break;
+                case "issuetype":
+                    issue.setIssueType(readProperties(parser, "name")[0]);
+                    break;
+                case "assignee": {
+                    String[] assignee = readProperties(parser, "displayName", "name");
+                    issue.setAssignee(assignee[0]);
+                    issue.setAssigneeName(assignee[1]);
+                    break;
+                }
+                case "reporter":
+                    issue.setReporter(readProperties(parser, "displayName")[0]);
+                    break;
+                case "project": {
+                    String[] project = readProperties(parser, "key", "name");
+                    issue.setProjectKey(project[0]);
+                    issue.setProjectName(project[1]);
+                    break;
+                }
+                case "created":
+                    issue.setCreated(readText(parser));
+                    break;
+                case "updated":
+                    issue.setUpdated(readText(parser));
+                    break;
+                case "resolution":
+                    issue.setResolution(readProperties(parser, "name")[0]);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Lit les propriétés scalaires demandées d'un objet et saute le reste.
+     * Retourne des null si la valeur courante n'est pas un objet (ex: assignee null).
+     */
+    private String[] readProperties(JsonParser parser, String... names) throws IOException {
+        String[] values = new String[names.length];
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return values;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            boolean matched = false;
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    values[i] = readText(parser);
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                parser.skipChildren();
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Valeur textuelle d'un scalaire, null pour null ou une structure
+     */
+    private String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.services.jira.client.JiraDeadline;
+import com.example.test1.services.jira.client.JiraDeadlineInterceptor;
+import com.example.test1.services.jira.client.JiraEndpointClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Regroupement des appels Jira identiques simultanés (single-flight) : tant
+ * qu'un appel est en cours pour une même opération, une même URL et un même
+ * en-tête Authorization, les autres appelants attendent et partagent son
+ * résultat (ou son erreur) au lieu de rappeler Jira.
+ * L'appel partagé s'exécute sous l'échéance (JiraDeadline) de l'appelant qui
+ * le lance : ses timeouts HTTP en sont bornés. Chaque appelant regroupé borne
+ * son attente par sa propre échéance ; si l'appel partagé a été coupé par
+ * l'échéance de son lanceur, un appelant qui a encore du temps le relance.
+ */
+@Component
+public class JiraRequestCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(JiraRequestCoalescer.class);
+
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    @Autowired
+    public JiraRequestCoalescer(MeterRegistry meterRegistry,
+                                @Value("${jira.coalescing.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        meterRegistry.gaugeMapSize("jira.requests.inflight", Collections.emptyList(), inFlight);
+    }
+
+    public <T> T execute(String operation, URI url, String authorization, Supplier<T> call) {
+        return execute(operation, url.normalize().toASCIIString(), authorization, call);
+    }
+
+    /**
+     * Exécute l'appel, ou attend le même appel déjà en cours.
+     * Le résultat est partagé entre les appelants : il ne doit pas être modifié.
+     * L'opération désigne aussi le type du résultat : deux appels de types
+     * différents vers la même URL doivent utiliser des opérations distinctes.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String url, String authorization, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        Long deadline = JiraDeadline.current();
+        checkNotExpired(deadline, url);
+        String key = key(operation, url, authorization);
+
+        while (true) {
+            Flight flight = new Flight(deadline);
+            Flight existing = inFlight.putIfAbsent(key, flight);
+
+            if (existing == null) {
+                meterRegistry.counter("jira.requests.executed", "operation", operation).increment();
+                // Dans le thread appelant, sous son échéance
+                Object result;
+                try {
+                    result = call.get();
+                } catch (RuntimeException | Error e) {
+                    flight.fail(inFlight, key, e);
+                    throw e;
+                }
+                flight.succeed(inFlight, key, result);
+                return (T) result;
+            }
+
+            meterRegistry.counter("jira.requests.coalesced", "operation", operation).increment();
+            logger.debug("🔗 Appel Jira regroupé avec un appel en cours: {} {}", operation, url);
+            try {
+                return (T) await(existing.future, deadline, url);
+            } catch (RuntimeException e) {
+                if (!existing.cutShortFor(deadline)) {
+                    throw e;
+                }
+                logger.debug("🔁 Appel Jira regroupé coupé par l'échéance d'un autre appelant, relancé: {} {}", operation, url);
+            }
+        }
+    }
+
+    /**
+     * Attend le résultat de l'appel partagé, au plus jusqu'à l'échéance de l'appelant
+     */
+    private Object await(CompletableFuture<Object> flight, Long deadline, String url) {
+        try {
+            if (deadline == null) {
+                return flight.get();
+            }
+            return flight.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw JiraDeadlineInterceptor.deadlineExceeded(meterRegistry, endpointClass(url));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Erreur lors de l'appel Jira regroupé", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Attente de l'appel Jira interrompue", e);
+        }
+    }
+
+    public <T> CompletableFuture<T> executeAsync(String operation, URI url, String authorization,
+                                                 Supplier<CompletableFuture<T>> call) {
+        return executeAsync(operation, url.normalize().toASCIIString(), authorization, call);
+    }
+
+    /**
+     * Variante non bloquante : un appelant regroupé reçoit un future qui se
+     * termine avec l'appel déjà en cours, sans attendre dans un thread.
+     * Chaque future rendu échoue au plus tard à l'échéance de son appelant.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String operation, String url, String authorization,
+                                                 Supplier<CompletableFuture<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        Long deadline = JiraDeadline.current();
+        checkNotExpired(deadline, url);
+
+        String key = key(operation, url, authorization);
+        Flight flight = new Flight(deadline);
+        Flight existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            meterRegistry.counter("jira.requests.coalesced", "operation", operation).increment();
+            logger.debug("🔗 Appel Jira regroupé avec un appel en cours: {} {}", operation, url);
+            // Future dépendant : un appelant ne peut pas terminer celui des autres
+            CompletableFuture<T> shared = existing.future.thenApply(result -> (T) result);
+            CompletableFuture<T> result = shared
+                    .handle((value, error) -> {
+                        if (error == null || !existing.cutShortFor(deadline)) {
+                            return shared;
+                        }
+                        logger.debug("🔁 Appel Jira regroupé coupé par l'échéance d'un autre appelant, relancé: {} {}", operation, url);
+                        return JiraDeadline.callWith(deadline, () -> executeAsync(operation, url, authorization, call));
+                    })
+                    .thenCompose(Function.identity());
+            return withDeadline(result, deadline, url);
+        }
+
+        meterRegistry.counter("jira.requests.executed", "operation", operation).increment();
+        CompletableFuture<T> result;
+        try {
+            // L'abonnement au WebClient lit l'échéance de cet appelant
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            flight.fail(inFlight, key, e);
+            throw e;
+        }
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                flight.fail(inFlight, key, error);
+            } else {
+                flight.succeed(inFlight, key, value);
+            }
+        });
+        return withDeadline(result.thenApply(value -> value), deadline, url);
+    }
+
+    /**
+     * future échoue (JiraCallRejectedException) à l'échéance ; future doit être
+     * propre à l'appelant : l'annulation par le timeout ne touche pas l'appel partagé
+     */
+    private <T> CompletableFuture<T> withDeadline(CompletableFuture<T> future, Long deadline, String url) {
+        if (deadline == null) {
+            return future;
+        }
+        return Mono.fromFuture(future)
+                .timeout(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))
+                .onErrorMap(TimeoutException.class,
+                        e -> JiraDeadlineInterceptor.deadlineExceeded(meterRegistry, endpointClass(url)))
+                .toFuture();
+    }
+
+    private void checkNotExpired(Long deadline, String url) {
+        if (JiraDeadline.isExpired(deadline)) {
+            throw JiraDeadlineInterceptor.deadlineExceeded(meterRegistry, endpointClass(url));
+        }
+    }
+
+    private static JiraEndpointClass endpointClass(String url) {
+        try {
+            return JiraEndpointClass.of(URI.create(url));
+        } catch (IllegalArgumentException e) {
+            return JiraEndpointClass.OTHER;
+        }
+    }
+
+    /**
+     * Appel en cours et échéance sous laquelle il s'exécute (null : aucune)
+     */
+    private static final class Flight {
+
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final Long deadline;
+
+        Flight(Long deadline) {
+            this.deadline = deadline;
+        }
+
+        // Retiré avant d'être terminé : un appelant qui relance ne retrouve pas cet appel
+        void succeed(ConcurrentHashMap<String, Flight> inFlight, String key, Object result) {
+            inFlight.remove(key, this);
+            future.complete(result);
+        }
+
+        void fail(ConcurrentHashMap<String, Flight> inFlight, String key, Throwable error) {
+            inFlight.remove(key, this);
+            future.completeExceptionally(error);
+        }
+
+        /**
+         * Vrai si l'échec vient de l'échéance du lanceur alors que l'appelant
+         * (échéance callerDeadline) a encore du temps
+         */
+        boolean cutShortFor(Long callerDeadline) {
+            return JiraDeadline.isExpired(deadline) && !JiraDeadline.isExpired(callerDeadline);
+        }
+    }
+
+    // L'en-tête Authorization fait partie de la clé : jamais de réponse partagée entre deux comptes
+    private static String key(String operation, String url, String authorization) {
+        return operation + ' ' + url + ' ' + authorization;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index immuable d'un catalogue de projets pour la recherche du sélecteur :
+ * trigrammes en minuscules (clé, nom, description) pour les recherches par
+ * sous-chaîne et tableau trié des clés pour l'autocomplétion par préfixe.
+ * Reconstruit uniquement quand le catalogue change.
+ */
+final class ProjectSearchIndex {
+
+    private final List<Project> catalog;
+
+    // Champs en minuscules calculés une seule fois, dans l'ordre du catalogue
+    private final String[] keys;
+    private final String[] names;
+    private final String[] descriptions;
+
+    // Clés triées et position de chaque projet dans le catalogue
+    private final String[] sortedKeys;
+    private final int[] sortedKeyPositions;
+
+    // Trigramme -> positions (croissantes) des projets qui le contiennent
+    private final Map<String, int[]> trigrams;
+
+    ProjectSearchIndex(List<Project> catalog) {
+        this.catalog = catalog;
+        int size = catalog.size();
+        keys = new String[size];
+        names = new String[size];
+        descriptions = new String[size];
+
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Project project = catalog.get(i);
+            keys[i] = lower(project.getKey());
+            names[i] = lower(project.getName());
+            descriptions[i] = lower(project.getDescription());
+
+            Set<String> projectTrigrams = new HashSet<>();
+            addTrigrams(projectTrigrams, keys[i]);
+            addTrigrams(projectTrigrams, names[i]);
+            addTrigrams(projectTrigrams, descriptions[i]);
+            for (String trigram : projectTrigrams) {
+                postings.computeIfAbsent(trigram, t -> new ArrayList<>()).add(i);
+            }
+        }
+
+        trigrams = new HashMap<>(postings.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : postings.entrySet()) {
+            List<Integer> positions = entry.getValue();
+            int[] array = new int[positions.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = positions.get(i);
+            }
+            trigrams.put(entry.getKey(), array);
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+        sortedKeys = new String[size];
+        sortedKeyPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedKeyPositions[i] = order[i];
+        }
+    }
+
+    /**
+     * Catalogue indexé (comparé par identité pour savoir si l'index est à jour)
+     */
+    List<Project> getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Projets dont la clé, le nom ou la description contient le terme (sans
+     * tenir compte de la casse). Les clés commençant par le terme viennent
+     * d'abord, le reste suit l'ordre du catalogue.
+     */
+    List<Project> search(String term) {
+        String query = term.toLowerCase(Locale.ROOT);
+        boolean[] selected = new boolean[catalog.size()];
+        List<Project> results = new ArrayList<>();
+
+        // Autocomplétion : plage des clés ayant le terme pour préfixe
+        int from = lowerBound(query);
+        for (int i = from; i < sortedKeys.length && sortedKeys[i].startsWith(query); i++) {
+            int position = sortedKeyPositions[i];
+            selected[position] = true;
+            results.add(catalog.get(position));
+        }
+
+        for (int position : candidates(query)) {
+            if (!selected[position] && matches(position, query)) {
+                results.add(catalog.get(position));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Positions pouvant contenir le terme : intersection des listes de ses
+     * trigrammes (ou tout le catalogue pour un terme de moins de 3 caractères)
+     */
+    private int[] candidates(String query) {
+        if (query.length() < 3) {
+            int[] all = new int[catalog.size()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            int[] positions = trigrams.get(query.substring(i, i + 3));
+            if (positions == null) {
+                return new int[0];
+            }
+            lists.add(positions);
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] smallest = lists.get(0);
+        int[] result = new int[smallest.length];
+        int count = 0;
+        for (int position : smallest) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = Arrays.binarySearch(lists.get(i), position) >= 0;
+            }
+            if (inAll) {
+                result[count++] = position;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // Les trigrammes n'assurent pas la contiguïté : vérification finale sur les champs
+    private boolean matches(int position, String query) {
+        return keys[position].contains(query)
+                || names[position].contains(query)
+                || descriptions[position].contains(query);
+    }
+
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = sortedKeys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedKeys[middle].compareTo(query) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static void addTrigrams(Set<String> trigrams, String text) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + 3));
+        }
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,19 +1,39 @@
 package com.example.test1.services.jira;
 
 import com.example.test1.entities.jira.Project;
+import com.example.test1.repositories.jira.JiraProjectJdbcRepository;
+import com.example.test1.services.jira.client.JiraDeadline;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 
 @Service
@@ -21,6 +41,8 @@ public class ProjectService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProjectService.class);
 
+    private static final String CATALOG_KEY = "all";
+
     @Value("${jira.server.url}")
     private String jiraServerUrl;
 
@@ -33,45 +55,149 @@ public class ProjectService {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private WebClient jiraWebClient;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JiraRequestCoalescer requestCoalescer;
+
+    @Autowired
+    @Qualifier("jiraExecutor")
+    private Executor jiraExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JiraProjectJdbcRepository projectJdbcRepository;
+
+    // rest : API REST de Jira ; db : lecture directe des tables de Jira (jiraDataSource)
+    @Value("${jira.read.backend:rest}")
+    private String readBackend;
+
+    @Value("${jira.projects.cache.ttl-ms:600000}")
+    private long catalogTtlMs;
+
+    private AsyncLoadingCache<String, List<Project>> projectCatalog;
+    private Counter catalogRefreshes;
+    private volatile ProjectSearchIndex projectIndex;
+
+    @PostConstruct
+    void initProjectCatalog() {
+        catalogRefreshes = meterRegistry.counter("jira.projects.catalog.refreshes");
+        // Rechargement par refreshProjectCatalog (planifié) ; l'expiration ne sert que si Jira reste injoignable
+        projectCatalog = Caffeine.newBuilder()
+                .expireAfterWrite(catalogTtlMs, TimeUnit.MILLISECONDS)
+                .executor(jiraExecutor)
+                .recordStats()
+                .buildAsync(new AsyncCacheLoader<String, List<Project>>() {
+                    @Override
+                    public CompletableFuture<List<Project>> asyncLoad(String key, Executor executor) {
+                        return fetchAllProjects();
+                    }
+
+                    @Override
+                    public CompletableFuture<List<Project>> asyncReload(String key, List<Project> oldValue, Executor executor) {
+                        catalogRefreshes.increment();
+                        return fetchAllProjects();
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, projectCatalog, "jira.projects.catalog");
+    }
+
+    /**
+     * Rechargement du catalogue toutes les jira.projects.cache.refresh-ms, même
+     * sans accès : l'ancien catalogue reste servi pendant le rechargement
+     */
+    @Scheduled(initialDelayString = "${jira.projects.cache.refresh-ms:300000}",
+            fixedDelayString = "${jira.projects.cache.refresh-ms:300000}")
+    public void refreshProjectCatalog() {
+        projectCatalog.synchronous().refresh(CATALOG_KEY);
+    }
+
+    /**
+     * Catalogue des projets, servi depuis le cache. Un seul appel Jira est fait
+     * pour des accès concurrents manquants ; le catalogue est rechargé en
+     * arrière-plan (refreshProjectCatalog) pendant que l'ancien reste servi.
+     */
     public List<Project> getAllProjects() {
+        try {
+            return projectCatalog.get(CATALOG_KEY).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new RuntimeException("Erreur lors de la récupération des projets", e.getCause());
+        }
+    }
+
+    /**
+     * Variante non bloquante de getAllProjects : terminée immédiatement si le
+     * catalogue est en cache, sinon à la fin du chargement en cours
+     */
+    public CompletableFuture<List<Project>> getAllProjectsAsync() {
+        // Future dépendant : l'appelant ne peut pas modifier celui du cache
+        return projectCatalog.get(CATALOG_KEY).thenApply(projects -> projects);
+    }
+
+    /**
+     * Appel non bloquant à /rest/api/2/project (WebClient), ou lecture de la
+     * table project dans jiraExecutor si jira.read.backend=db (chargement du cache)
+     */
+    private CompletableFuture<List<Project>> fetchAllProjects() {
+        // Catalogue partagé par toutes les requêtes : pas lié à l'échéance de celle qui le charge
+        return JiraDeadline.callWith(null, this::loadAllProjects);
+    }
+
+    private CompletableFuture<List<Project>> loadAllProjects() {
         logger.info("🔍 Récupération de tous les projets Jira pour l'utilisateur: {}", jiraUsername);
 
-        try {
+        CompletableFuture<List<Project>> projects;
+        if ("db".equalsIgnoreCase(readBackend)) {
+            projects = CompletableFuture.supplyAsync(() -> {
+                List<Project> rows = projectJdbcRepository.findAll();
+                logger.info("✅ {} projets lus dans la base Jira", rows.size());
+                return Collections.unmodifiableList(rows);
+            }, jiraExecutor);
+        } else {
             String url = jiraServerUrl + "/rest/api/2/project";
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
             logger.debug("📡 Appel API Jira: {}", url);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode jsonArray = objectMapper.readTree(response.getBody());
-                List<Project> projects = new ArrayList<>();
+            projects = jiraWebClient.get()
+                    .uri(url)
+                    .headers(headers -> headers.addAll(createAuthHeaders()))
+                    .retrieve()
+                    .bodyToMono(byte[].class)
+                    // Parsing (CPU) hors des threads d'E/S
+                    .publishOn(Schedulers.parallel())
+                    .map(this::parseProjects)
+                    .toFuture();
+        }
 
-                for (JsonNode jsonProject : jsonArray) {
-                    Project project = mapJsonToProject(jsonProject);
-                    projects.add(project);
-                }
+        return projects.handle((result, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                logger.error("❌ Erreur lors de la récupération des projets", cause);
+                throw new RuntimeException("Erreur lors de la récupération des projets", cause);
+            }
+            return result;
+        });
+    }
 
-                logger.info("✅ {} projets récupérés avec succès", projects.size());
-                return projects;
-            } else {
-                logger.error("❌ Erreur lors de la récupération des projets. Status: {}", response.getStatusCode());
-                return new ArrayList<>();
+    private List<Project> parseProjects(byte[] body) {
+        try {
+            List<Project> projects = new ArrayList<>();
+            for (JsonNode jsonProject : objectMapper.readTree(body)) {
+                projects.add(mapJsonToProject(jsonProject));
             }
 
-        } catch (Exception e) {
-            logger.error("❌ Erreur lors de la récupération des projets", e);
-            throw new RuntimeException("Erreur lors de la récupération des projets", e);
+            logger.info("✅ {} projets récupérés avec succès", projects.size());
+            return Collections.unmodifiableList(projects);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Réponse Jira illisible", e);
         }
     }
 
@@ -83,12 +209,8 @@ public class ProjectService {
             HttpHeaders headers = createAuthHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response = requestCoalescer.execute("project-json", url, headers.getFirst(HttpHeaders.AUTHORIZATION),
+                    () -> restTemplate.exchange(url, HttpMethod.GET, entity, String.class));
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 JsonNode jsonProject = objectMapper.readTree(response.getBody());
@@ -106,23 +228,36 @@ public class ProjectService {
         }
     }
 
+    /**
+     * Index de recherche du catalogue ; reconstruit seulement quand le cache
+     * renvoie une nouvelle liste (chargement ou rechargement du catalogue)
+     */
+    private ProjectSearchIndex projectSearchIndex(List<Project> catalog) {
+        ProjectSearchIndex index = projectIndex;
+        if (index == null || index.getCatalog() != catalog) {
+            index = new ProjectSearchIndex(catalog);
+            projectIndex = index;
+            logger.debug("🔄 Index de recherche des projets reconstruit ({} projets)", catalog.size());
+        }
+        return index;
+    }
+
     public List<Project> searchProjects(String searchTerm) {
-        logger.info("🔍 Recherche de projets avec le terme: '{}'", searchTerm);
+        return searchProjects(searchTerm, getAllProjects());
+    }
 
+    public CompletableFuture<List<Project>> searchProjectsAsync(String searchTerm) {
+        return getAllProjectsAsync().thenApply(catalog -> searchProjects(searchTerm, catalog));
+    }
+
+    private List<Project> searchProjects(String searchTerm, List<Project> catalog) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return getAllProjects();
+            return catalog;
         }
 
-        List<Project> allProjects = getAllProjects();
-        String searchTermLower = searchTerm.toLowerCase().trim();
+        logger.info("🔍 Recherche de projets avec le terme: '{}'", searchTerm);
 
-        List<Project> filteredProjects = allProjects.stream()
-                .filter(project ->
-                        (project.getName() != null && project.getName().toLowerCase().contains(searchTermLower)) ||
-                                (project.getKey() != null && project.getKey().toLowerCase().contains(searchTermLower)) ||
-                                (project.getDescription() != null && project.getDescription().toLowerCase().contains(searchTermLower))
-                )
-                .collect(Collectors.toList());
+        List<Project> filteredProjects = projectSearchIndex(catalog).search(searchTerm.trim());
 
         logger.info("✅ {} projets trouvés pour la recherche '{}'", filteredProjects.size(), searchTerm);
         return filteredProjects;
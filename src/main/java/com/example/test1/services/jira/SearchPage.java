@@ -0,0 +1,70 @@
+package com.example.test1.services.jira;
+
+/**
+ * En-tête de pagination d'une réponse /rest/api/2/search
+ */
+public class SearchPage {
+
+    private int startAt;
+    private int maxResults;
+    private int total;
+    private int count;
+
+    public SearchPage() {}
+
+    public SearchPage(int startAt, int maxResults, int total, int count) {
+        this.startAt = startAt;
+        this.maxResults = maxResults;
+        this.total = total;
+        this.count = count;
+    }
+
+    public static SearchPage empty() {
+        return new SearchPage(0, 0, 0, 0);
+    }
+
+    public int getStartAt() {
+        return startAt;
+    }
+
+    public void setStartAt(int startAt) {
+        this.startAt = startAt;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    public void setMaxResults(int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    /**
+     * Nombre de tickets effectivement lus dans la page
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchPage{" +
+                "startAt=" + startAt +
+                ", maxResults=" + maxResults +
+                ", total=" + total +
+                ", count=" + count +
+                '}';
+    }
+}
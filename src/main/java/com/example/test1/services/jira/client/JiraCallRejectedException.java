@@ -0,0 +1,19 @@
+package com.example.test1.services.jira.client;
+
+/**
+ * Appel Jira refusé localement, sans atteindre Jira : disjoncteur ouvert ou
+ * cloison pleine
+ */
+public class JiraCallRejectedException extends RuntimeException {
+
+    private final JiraEndpointClass endpointClass;
+
+    public JiraCallRejectedException(JiraEndpointClass endpointClass, String message) {
+        super(message);
+        this.endpointClass = endpointClass;
+    }
+
+    public JiraEndpointClass getEndpointClass() {
+        return endpointClass;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.test1.services.jira.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Échéance de la requête HTTP en cours, portée par le thread qui la traite.
+ * Chaque appel Jira sortant en tire son timeout ; une fois l'échéance passée,
+ * les appels restants (pages suivantes, fan-out) sont refusés sans appeler Jira.
+ * Les tâches passées à jiraExecutor reçoivent l'échéance du thread appelant.
+ */
+public final class JiraDeadline {
+
+    /**
+     * Attribut d'une requête WebClient portant son échéance (System.nanoTime())
+     */
+    public static final String ATTRIBUTE = JiraDeadline.class.getName() + ".deadline";
+
+    // Échéance en System.nanoTime(), absente hors d'une requête
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private JiraDeadline() {
+    }
+
+    public static void start(long timeoutMs) {
+        DEADLINE.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    /**
+     * Échéance du thread courant (System.nanoTime()), null s'il n'y en a pas
+     */
+    public static Long current() {
+        return DEADLINE.get();
+    }
+
+    /**
+     * Temps restant en nanosecondes (négatif si dépassé), Long.MAX_VALUE sans échéance
+     */
+    public static long remainingNanos() {
+        Long deadline = DEADLINE.get();
+        return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    public static long remainingMillis() {
+        long remaining = remainingNanos();
+        return remaining == Long.MAX_VALUE ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(remaining);
+    }
+
+    public static boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Vrai si l'échéance donnée (System.nanoTime(), null : aucune) est passée
+     */
+    public static boolean isExpired(Long deadline) {
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Borne un timeout configuré par le temps restant (au moins 1 ms). Le temps
+     * restant est arrondi à la milliseconde supérieure : un timeout raccourci ne
+     * se déclenche pas avant l'échéance, ce qui permet de le reconnaître (isExpired)
+     */
+    public static int cap(int timeoutMs) {
+        long remainingNanos = remainingNanos();
+        if (remainingNanos == Long.MAX_VALUE) {
+            return timeoutMs;
+        }
+        long remaining = (Math.max(0, remainingNanos) + TimeUnit.MILLISECONDS.toNanos(1) - 1)
+                / TimeUnit.MILLISECONDS.toNanos(1);
+        return remaining >= timeoutMs ? timeoutMs : (int) Math.max(1, remaining);
+    }
+
+    /**
+     * Exécute call avec l'échéance donnée (null : sans échéance), puis rétablit celle du thread
+     */
+    public static <T> T callWith(Long deadline, Supplier<T> call) {
+        Long previous = DEADLINE.get();
+        set(deadline);
+        try {
+            return call.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * Tâche qui s'exécutera avec l'échéance du thread appelant (TaskDecorator de jiraExecutor)
+     */
+    public static Runnable wrap(Runnable task) {
+        Long deadline = DEADLINE.get();
+        return () -> callWith(deadline, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Long deadline = DEADLINE.get();
+        return () -> callWith(deadline, task);
+    }
+
+    private static void set(Long deadline) {
+        if (deadline == null) {
+            DEADLINE.remove();
+        } else {
+            DEADLINE.set(deadline);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.test1.services.jira.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+
+/**
+ * Échéance de la requête d'origine pour le client Jira non bloquant : lue à
+ * l'abonnement (thread appelant), elle borne l'attente de la réponse, limite
+ * de débit comprise, et le timeout de lecture de Reactor Netty. Elle est aussi
+ * portée par l'attribut JiraDeadline.ATTRIBUTE pour les filtres suivants.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JiraDeadlineExchangeFilter implements ExchangeFilterFunction {
+
+    private final MeterRegistry meterRegistry;
+
+    public JiraDeadlineExchangeFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            long remainingNanos = JiraDeadline.remainingNanos();
+            if (remainingNanos == Long.MAX_VALUE) {
+                return next.exchange(request);
+            }
+            JiraDeadlineInterceptor.checkNotExpired(meterRegistry, JiraEndpointClass.of(request.url()));
+
+            Duration remaining = Duration.ofNanos(remainingNanos);
+            ClientRequest bounded = ClientRequest.from(request)
+                    .attribute(JiraDeadline.ATTRIBUTE, JiraDeadline.current())
+                    .httpRequest(httpRequest -> {
+                        Object nativeRequest = httpRequest.getNativeRequest();
+                        if (nativeRequest instanceof HttpClientRequest) {
+                            ((HttpClientRequest) nativeRequest).responseTimeout(remaining);
+                        }
+                    })
+                    .build();
+            return next.exchange(bounded).timeout(remaining);
+        });
+    }
+}
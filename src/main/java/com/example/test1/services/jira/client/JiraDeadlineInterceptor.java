@@ -0,0 +1,50 @@
+package com.example.test1.services.jira.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Premier intercepteur : un appel Jira dont la requête d'origine a dépassé son
+ * échéance (JiraDeadline) est refusé avant toute attente (limite de débit,
+ * cloison). Les timeouts HTTP de l'appel sont bornés par RestTemplateConfig.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JiraDeadlineInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public JiraDeadlineInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        checkNotExpired(meterRegistry, JiraEndpointClass.of(request.getURI()));
+        return execution.execute(request, body);
+    }
+
+    static void checkNotExpired(MeterRegistry meterRegistry, JiraEndpointClass endpointClass) {
+        if (JiraDeadline.isExpired()) {
+            throw deadlineExceeded(meterRegistry, endpointClass);
+        }
+    }
+
+    /**
+     * Refus d'un appel Jira (ou de l'attente de son résultat) après l'échéance de la requête
+     */
+    public static JiraCallRejectedException deadlineExceeded(MeterRegistry meterRegistry, JiraEndpointClass endpointClass) {
+        meterRegistry.counter("jira.deadline.exceeded", "endpoint", endpointClass.tag()).increment();
+        return new JiraCallRejectedException(endpointClass,
+                "Échéance de la requête dépassée, appel Jira abandonné (" + endpointClass.tag() + ")");
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.test1.services.jira.client;
+
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * Famille d'appels Jira, avec son propre disjoncteur et sa propre cloison :
+ * une rafale de recherches ne doit pas bloquer l'authentification
+ */
+public enum JiraEndpointClass {
+
+    AUTH, SEARCH, ISSUE, PROJECT, OTHER;
+
+    public static JiraEndpointClass of(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        if (path.endsWith("/rest/api/2/myself") || path.contains("/rest/api/2/user")) {
+            return AUTH;
+        }
+        if (path.contains("/rest/api/2/search")) {
+            return SEARCH;
+        }
+        if (path.contains("/rest/api/2/issue")) {
+            return ISSUE;
+        }
+        if (path.contains("/rest/api/2/project")) {
+            return PROJECT;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Nom utilisé dans les propriétés (jira.bulkhead.search.max-concurrent) et les métriques
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.test1.services.jira.client;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Limite de débit du client Jira non bloquant : même seau à jetons que
+ * JiraRateLimitInterceptor, mais l'attente est un délai planifié au lieu
+ * d'un sommeil du thread appelant. Après JiraResilienceExchangeFilter : le
+ * jeton n'est pris qu'une fois l'appel admis par le disjoncteur et la cloison.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class JiraRateLimitExchangeFilter implements ExchangeFilterFunction {
+
+    private final JiraRateLimitInterceptor rateLimit;
+
+    public JiraRateLimitExchangeFilter(JiraRateLimitInterceptor rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!rateLimit.isEnabled()) {
+            return next.exchange(request);
+        }
+
+        // defer : la réservation est faite à l'abonnement, un refus devient un Mono en erreur
+        return Mono.defer(() -> {
+            long wait = rateLimit.reserve(request.url());
+            Mono<ClientResponse> call = next.exchange(request)
+                    .doOnNext(response -> rateLimit.onResponse(response.rawStatusCode(), response.headers().asHttpHeaders()));
+            return wait > 0 ? Mono.delay(Duration.ofNanos(wait)).then(call) : call;
+        });
+    }
+}
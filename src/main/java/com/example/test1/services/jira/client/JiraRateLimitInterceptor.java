@@ -0,0 +1,169 @@
+package com.example.test1.services.jira.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite le débit de tous les appels Jira (seau à jetons partagé). Un appel
+ * hors budget attend son tour jusqu'à jira.rate-limit.max-wait-ms au lieu
+ * d'échouer ; au-delà il est refusé sans appeler Jira. Placé après le
+ * disjoncteur et la cloison : un appel qu'ils refusent ne consomme pas de jeton.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class JiraRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JiraRateLimitInterceptor.class);
+
+    // En-têtes de limitation de Jira Data Center
+    static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    static final String RATE_LIMIT_FILL_RATE = "X-RateLimit-FillRate";
+    static final String RATE_LIMIT_INTERVAL = "X-RateLimit-Interval-Seconds";
+
+    private final JiraRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Timer waits;
+    private final boolean enabled;
+    private final long maxWaitMs;
+
+    @Autowired
+    public JiraRateLimitInterceptor(MeterRegistry meterRegistry,
+                                    @Value("${jira.rate-limit.enabled:true}") boolean enabled,
+                                    @Value("${jira.rate-limit.permits-per-second:20}") double permitsPerSecond,
+                                    @Value("${jira.rate-limit.burst:40}") double burst,
+                                    @Value("${jira.rate-limit.max-wait-ms:5000}") long maxWaitMs) {
+        this.rateLimiter = new JiraRateLimiter(permitsPerSecond, burst);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxWaitMs = maxWaitMs;
+        this.waits = meterRegistry.timer("jira.ratelimit.wait");
+        meterRegistry.gauge("jira.ratelimit.rate", Collections.emptyList(), rateLimiter, JiraRateLimiter::getPermitsPerSecond);
+    }
+
+    public JiraRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (!enabled) {
+            return execution.execute(request, body);
+        }
+
+        long wait = reserve(request.getURI());
+        if (wait > 0) {
+            sleep(wait);
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        onResponse(response.getRawStatusCode(), response.getHeaders());
+        return response;
+    }
+
+    /**
+     * Réserve un jeton pour un appel ; l'attente est laissée à l'appelant
+     * (sommeil ici, délai non bloquant pour le client asynchrone)
+     * @return attente en nanosecondes avant l'appel
+     * @throws JiraCallRejectedException si l'attente dépasserait jira.rate-limit.max-wait-ms
+     *         ou l'échéance de la requête d'origine
+     */
+    public long reserve(URI uri) {
+        long maxWaitNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(maxWaitMs), JiraDeadline.remainingNanos());
+        long wait = rateLimiter.reserve(maxWaitNanos);
+        if (wait < 0) {
+            meterRegistry.counter("jira.ratelimit.rejected").increment();
+            throw new JiraCallRejectedException(JiraEndpointClass.of(uri),
+                    "Limite de débit Jira atteinte, appel abandonné après "
+                            + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + " ms d'attente");
+        }
+        waits.record(wait, TimeUnit.NANOSECONDS);
+        return wait;
+    }
+
+    /**
+     * Ajuste le débit d'après la réponse de Jira (429, en-têtes X-RateLimit-*)
+     */
+    public void onResponse(int rawStatusCode, HttpHeaders headers) {
+        if (rawStatusCode == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            long retryAfter = retryAfterNanos(headers.getFirst(HttpHeaders.RETRY_AFTER));
+            rateLimiter.onThrottled(retryAfter);
+            meterRegistry.counter("jira.ratelimit.throttled").increment();
+            logger.warn("⚠️ Jira limite nos appels (429), Retry-After: {}", headers.getFirst(HttpHeaders.RETRY_AFTER));
+        } else {
+            rateLimiter.onAccepted(parseLong(headers.getFirst(RATE_LIMIT_REMAINING), -1), fillRate(headers));
+        }
+    }
+
+    private static void sleep(long nanos) throws IOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Attente de la limite de débit Jira interrompue", e);
+        }
+    }
+
+    /**
+     * Retry-After : nombre de secondes ou date HTTP ; 0 si absent ou illisible
+     */
+    static long retryAfterNanos(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return 0;
+        }
+        String value = retryAfter.trim();
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toNanos());
+            } catch (DateTimeParseException ignored) {
+                return 0;
+            }
+        }
+    }
+
+    private static double fillRate(HttpHeaders headers) {
+        long fillRate = parseLong(headers.getFirst(RATE_LIMIT_FILL_RATE), -1);
+        long interval = parseLong(headers.getFirst(RATE_LIMIT_INTERVAL), -1);
+        return fillRate > 0 && interval > 0 ? (double) fillRate / interval : 0;
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.test1.services.jira.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Seau à jetons partagé par tous les appels Jira. Une réservation renvoie le
+ * délai d'attente avant de pouvoir appeler (les appelants sont servis dans
+ * l'ordre des réservations) ; l'attente elle-même est laissée à l'appelant,
+ * bloquante ou non. Le débit s'adapte aux réponses de Jira : Retry-After
+ * suspend les appels, les en-têtes X-RateLimit-* ajustent le débit.
+ */
+public class JiraRateLimiter {
+
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final long INITIAL_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double configuredPermitsPerSecond;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    // ReentrantLock plutôt que synchronized : pas d'épinglage des threads virtuels
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double permitsPerSecond;
+    // Peut devenir négatif : jetons déjà promis aux appelants en attente
+    private double tokens;
+    private long refilledAt;
+    private long blockedUntil;
+    private long backoffNanos = INITIAL_BACKOFF_NANOS;
+
+    public JiraRateLimiter(double permitsPerSecond, double burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    JiraRateLimiter(double permitsPerSecond, double burst, LongSupplier nanoClock) {
+        this.configuredPermitsPerSecond = permitsPerSecond;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.tokens = this.burst;
+        this.refilledAt = nanoClock.getAsLong();
+        this.blockedUntil = refilledAt;
+    }
+
+    /**
+     * Réserve un jeton si l'attente ne dépasse pas maxWaitNanos.
+     * @return attente en nanosecondes avant l'appel, ou -1 si elle dépasserait maxWaitNanos
+     *         (rien n'est alors réservé)
+     */
+    public long reserve(long maxWaitNanos) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            refill(now);
+
+            long wait = Math.max(0, blockedUntil - now);
+            if (tokens < 1) {
+                // Le seau ne se remplit qu'à partir de refilledAt (fin d'une suspension)
+                wait = Math.max(wait, Math.max(0, refilledAt - now)
+                        + (long) ((1 - tokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1)));
+            }
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            tokens -= 1;
+            return wait;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Réponse 429 : plus aucun appel avant Retry-After (ou avant un délai
+     * exponentiel si Jira n'en donne pas)
+     */
+    public void onThrottled(long retryAfterNanos) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            long pause = retryAfterNanos > 0 ? retryAfterNanos : backoffNanos;
+            backoffNanos = Math.min(MAX_BACKOFF_NANOS, backoffNanos * 2);
+            blockedUntil = Math.max(blockedUntil, now + pause);
+            refill(now);
+            // Ni les jetons accumulés ni ceux de la pause ne doivent provoquer une rafale à la reprise
+            tokens = Math.min(tokens, 1);
+            refilledAt = Math.max(refilledAt, blockedUntil);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Réponse acceptée : applique les en-têtes X-RateLimit-* éventuels
+     * @param remaining jetons restants côté Jira (-1 si absent)
+     * @param fillRatePerSecond débit de remplissage annoncé par Jira (0 si absent)
+     */
+    public void onAccepted(long remaining, double fillRatePerSecond) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            backoffNanos = INITIAL_BACKOFF_NANOS;
+
+            if (fillRatePerSecond > 0) {
+                // Jamais au-dessus du débit configuré
+                permitsPerSecond = Math.min(configuredPermitsPerSecond, fillRatePerSecond);
+            }
+            if (remaining >= 0 && remaining < tokens) {
+                tokens = remaining;
+            }
+            if (remaining == 0) {
+                blockedUntil = Math.max(blockedUntil,
+                        now + (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+                refilledAt = Math.max(refilledAt, blockedUntil);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Ajoute les jetons gagnés depuis refilledAt ; rien pendant une suspension
+     * (refilledAt est alors repoussé à blockedUntil)
+     */
+    private void refill(long now) {
+        if (now > refilledAt && now >= blockedUntil) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+            refilledAt = now;
+        }
+    }
+}
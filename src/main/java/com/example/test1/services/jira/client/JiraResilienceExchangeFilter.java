@@ -0,0 +1,128 @@
+package com.example.test1.services.jira.client;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Disjoncteur et cloison du client Jira non bloquant. Le disjoncteur est
+ * partagé avec JiraResilienceInterceptor ; la cloison est propre au client
+ * asynchrone (jira.bulkhead.async.*), plus large puisqu'un appel en attente
+ * n'occupe aucun thread. Une cloison pleine met l'appel en attente (nouvel
+ * essai différé, sans bloquer de thread) jusqu'à jira.bulkhead.*.max-wait-ms.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+public class JiraResilienceExchangeFilter implements ExchangeFilterFunction {
+
+    // Délai entre deux essais d'une cloison pleine (exponentiel, avec gigue)
+    private static final Duration FIRST_RETRY = Duration.ofMillis(5);
+    private static final Duration MAX_RETRY = Duration.ofMillis(50);
+
+    private final JiraResilienceInterceptor resilience;
+
+    public JiraResilienceExchangeFilter(JiraResilienceInterceptor resilience) {
+        this.resilience = resilience;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            JiraEndpointClass endpointClass = JiraEndpointClass.of(request.url());
+            long waitUntil = System.nanoTime()
+                    + TimeUnit.MILLISECONDS.toNanos(resilience.getBulkheadMaxWaitMs(endpointClass));
+
+            return Mono.defer(() -> attempt(request, next, endpointClass, waitUntil))
+                    .retryWhen(Retry.backoff(Long.MAX_VALUE, FIRST_RETRY)
+                            .maxBackoff(MAX_RETRY)
+                            .filter(BulkheadFullException.class::isInstance));
+        });
+    }
+
+    /**
+     * Un essai : prend une place et lance l'appel, ou échoue avec
+     * BulkheadFullException (nouvel essai) tant que l'attente maximale n'est pas dépassée
+     */
+    private Mono<ClientResponse> attempt(ClientRequest request, ExchangeFunction next,
+                                         JiraEndpointClass endpointClass, long waitUntil) {
+        if (!resilience.tryAcquireAsync(endpointClass)) {
+            if (System.nanoTime() - waitUntil >= 0) {
+                return Mono.error(resilience.bulkheadFull(endpointClass));
+            }
+            return Mono.error(BulkheadFullException.INSTANCE);
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                resilience.releaseAsync(endpointClass);
+            }
+        };
+
+        try {
+            resilience.acquirePermission(endpointClass);
+        } catch (JiraCallRejectedException e) {
+            release.run();
+            return Mono.error(e);
+        }
+
+        // Un seul résultat par appel autorisé : réponse, erreur ou annulation
+        AtomicBoolean recorded = new AtomicBoolean();
+
+        return next.exchange(request)
+                .doOnError(e -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        // Refus de la limite de débit, timeout raccourci par l'échéance : Jira n'est pas en cause
+                        if (e instanceof JiraCallRejectedException || deadlineExpired(request)) {
+                            resilience.onIgnored(endpointClass);
+                        } else {
+                            resilience.onError(endpointClass);
+                        }
+                    }
+                    release.run();
+                })
+                .doOnCancel(() -> {
+                    // Annulé (échéance, client parti) : rend sa place d'essai si le disjoncteur est demi-ouvert
+                    if (recorded.compareAndSet(false, true)) {
+                        resilience.onIgnored(endpointClass);
+                    }
+                    release.run();
+                })
+                .map(response -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        resilience.onResponse(endpointClass, response.rawStatusCode());
+                    }
+                    // La place dans la cloison est rendue une fois le corps lu (ou abandonné)
+                    return response.mutate()
+                            .body(body -> body.doFinally(signal -> release.run()))
+                            .build();
+                });
+    }
+
+    private static boolean deadlineExpired(ClientRequest request) {
+        Object deadline = request.attribute(JiraDeadline.ATTRIBUTE).orElse(null);
+        return deadline instanceof Long && JiraDeadline.isExpired((Long) deadline);
+    }
+
+    /**
+     * Cloison pleine, essai à refaire : jamais transmise à l'appelant
+     */
+    private static final class BulkheadFullException extends RuntimeException {
+
+        static final BulkheadFullException INSTANCE = new BulkheadFullException();
+
+        private BulkheadFullException() {
+            super("Cloison Jira pleine", null, false, false);
+        }
+    }
+}
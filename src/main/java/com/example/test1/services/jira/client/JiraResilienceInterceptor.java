@@ -0,0 +1,272 @@
+package com.example.test1.services.jira.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Disjoncteur et cloison (nombre d'appels simultanés borné) par famille
+ * d'appels Jira, appliqués à tous les appels du RestTemplate partagé.
+ * Une cloison pleine ou un disjoncteur ouvert refusent l'appel immédiatement
+ * (JiraCallRejectedException) au lieu d'immobiliser un thread Tomcat.
+ * Placé avant la limite de débit : un appel admis garde sa place pendant
+ * l'attente de son jeton.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+public class JiraResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JiraResilienceInterceptor.class);
+
+    private final Map<JiraEndpointClass, JiraCircuitBreaker> breakers = new EnumMap<>(JiraEndpointClass.class);
+    private final Map<JiraEndpointClass, Semaphore> bulkheads = new EnumMap<>(JiraEndpointClass.class);
+    // Cloisons du client non bloquant : un appel en attente n'occupe aucun thread, limites plus hautes
+    private final Map<JiraEndpointClass, Semaphore> asyncBulkheads = new EnumMap<>(JiraEndpointClass.class);
+    private final Map<JiraEndpointClass, Long> bulkheadMaxWaitMs = new EnumMap<>(JiraEndpointClass.class);
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public JiraResilienceInterceptor(Environment environment,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${jira.circuit.window-size:20}") int windowSize,
+                                     @Value("${jira.circuit.minimum-calls:10}") int minimumCalls,
+                                     @Value("${jira.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+                                     @Value("${jira.circuit.open-duration-ms:30000}") long openDurationMs,
+                                     @Value("${jira.circuit.half-open-calls:3}") int halfOpenCalls,
+                                     @Value("${jira.bulkhead.max-wait-ms:100}") long bulkheadMaxWaitMs) {
+        this.meterRegistry = meterRegistry;
+
+        for (JiraEndpointClass endpointClass : JiraEndpointClass.values()) {
+            JiraCircuitBreaker breaker = new JiraCircuitBreaker(
+                    windowSize, minimumCalls, failureRateThreshold, openDurationMs, halfOpenCalls);
+            int maxConcurrent = environment.getProperty(
+                    "jira.bulkhead." + endpointClass.tag() + ".max-concurrent", Integer.class, defaultMaxConcurrent(endpointClass));
+            Semaphore bulkhead = new Semaphore(maxConcurrent, true);
+            int asyncMaxConcurrent = environment.getProperty(
+                    "jira.bulkhead.async." + endpointClass.tag() + ".max-concurrent", Integer.class, 4 * maxConcurrent);
+            Semaphore asyncBulkhead = new Semaphore(asyncMaxConcurrent);
+            long maxWaitMs = environment.getProperty(
+                    "jira.bulkhead." + endpointClass.tag() + ".max-wait-ms", Long.class, bulkheadMaxWaitMs);
+
+            breakers.put(endpointClass, breaker);
+            bulkheads.put(endpointClass, bulkhead);
+            asyncBulkheads.put(endpointClass, asyncBulkhead);
+            this.bulkheadMaxWaitMs.put(endpointClass, maxWaitMs);
+
+            Tags tags = Tags.of("endpoint", endpointClass.tag());
+            // 0 : fermé, 1 : ouvert, 2 : demi-ouvert
+            meterRegistry.gauge("jira.circuit.state", tags, breaker, b -> b.getState().ordinal());
+            meterRegistry.gauge("jira.bulkhead.available", tags, bulkhead, Semaphore::availablePermits);
+            meterRegistry.gauge("jira.bulkhead.async.available", tags, asyncBulkhead, Semaphore::availablePermits);
+        }
+    }
+
+    /**
+     * Les valeurs par défaut se partagent les 30 connexions par route du pool HTTP.
+     * Une recherche paginée occupe jira.search.parallelism (4) places : 16 en
+     * laissent passer 4 simultanées sans refuser une page en cours de route.
+     */
+    private static int defaultMaxConcurrent(JiraEndpointClass endpointClass) {
+        switch (endpointClass) {
+            case SEARCH:
+                return 16;
+            case AUTH:
+            case ISSUE:
+                return 4;
+            default:
+                return 2;
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        JiraEndpointClass endpointClass = JiraEndpointClass.of(request.getURI());
+        // Pas d'attente d'une place au-delà de l'échéance de la requête d'origine
+        acquire(endpointClass, Math.min(bulkheadMaxWaitMs.get(endpointClass), Math.max(0, JiraDeadline.remainingMillis())));
+
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            bulkheads.get(endpointClass).release();
+            if (e instanceof JiraCallRejectedException || JiraDeadline.isExpired()) {
+                // Refus de la limite de débit, timeout raccourci par l'échéance : Jira n'est pas en cause
+                onIgnored(endpointClass);
+            } else {
+                onError(endpointClass);
+            }
+            throw e;
+        }
+
+        onResponse(endpointClass, response.getRawStatusCode());
+        // La place dans la cloison est rendue à la fermeture de la réponse (corps lu)
+        return new ReleasingResponse(response, bulkheads.get(endpointClass));
+    }
+
+    /**
+     * Place dans la cloison du client asynchrone, sans attendre : false si elle
+     * est pleine (l'appelant réessaie plus tard, sans bloquer de thread).
+     * L'appelant doit rendre la place avec releaseAsync().
+     */
+    public boolean tryAcquireAsync(JiraEndpointClass endpointClass) {
+        return asyncBulkheads.get(endpointClass).tryAcquire();
+    }
+
+    public void releaseAsync(JiraEndpointClass endpointClass) {
+        asyncBulkheads.get(endpointClass).release();
+    }
+
+    /**
+     * Attente maximale d'une place dans la cloison de cette famille d'appels
+     */
+    public long getBulkheadMaxWaitMs(JiraEndpointClass endpointClass) {
+        return bulkheadMaxWaitMs.get(endpointClass);
+    }
+
+    /**
+     * Refus d'un appel asynchrone resté en attente d'une place au-delà de getBulkheadMaxWaitMs()
+     */
+    public JiraCallRejectedException bulkheadFull(JiraEndpointClass endpointClass) {
+        meterRegistry.counter("jira.bulkhead.rejected", "endpoint", endpointClass.tag()).increment();
+        return new JiraCallRejectedException(endpointClass,
+                "Trop d'appels Jira simultanés (" + endpointClass.tag() + ")");
+    }
+
+    /**
+     * Autorisation du disjoncteur pour un appel qui a déjà sa place dans la cloison
+     * @throws JiraCallRejectedException si le disjoncteur est ouvert
+     */
+    public void acquirePermission(JiraEndpointClass endpointClass) {
+        if (!breakers.get(endpointClass).tryAcquirePermission()) {
+            meterRegistry.counter("jira.circuit.rejected", "endpoint", endpointClass.tag()).increment();
+            throw new JiraCallRejectedException(endpointClass,
+                    "Jira indisponible, disjoncteur ouvert (" + endpointClass.tag() + ")");
+        }
+    }
+
+    /**
+     * Réponse reçue : une erreur 5xx compte comme un échec pour le disjoncteur
+     */
+    public void onResponse(JiraEndpointClass endpointClass, int rawStatusCode) {
+        if (rawStatusCode >= 500) {
+            onError(endpointClass);
+        } else {
+            breakers.get(endpointClass).onSuccess();
+        }
+    }
+
+    /**
+     * Appel en échec (erreur réseau, timeout, 5xx)
+     */
+    public void onError(JiraEndpointClass endpointClass) {
+        JiraCircuitBreaker breaker = breakers.get(endpointClass);
+        JiraCircuitBreaker.State before = breaker.getState();
+        breaker.onFailure();
+        if (before != JiraCircuitBreaker.State.OPEN && breaker.getState() == JiraCircuitBreaker.State.OPEN) {
+            logger.warn("⚠️ Disjoncteur Jira ouvert pour les appels '{}'", endpointClass.tag());
+        }
+    }
+
+    /**
+     * Appel abandonné avant son résultat (annulation, échéance de la requête) : ni succès ni échec
+     */
+    public void onIgnored(JiraEndpointClass endpointClass) {
+        breakers.get(endpointClass).onIgnored();
+    }
+
+    private void acquire(JiraEndpointClass endpointClass, long maxWaitMs) {
+        Semaphore bulkhead = bulkheads.get(endpointClass);
+        if (!acquire(bulkhead, maxWaitMs)) {
+            throw bulkheadFull(endpointClass);
+        }
+
+        try {
+            acquirePermission(endpointClass);
+        } catch (JiraCallRejectedException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    private static boolean acquire(Semaphore bulkhead, long maxWaitMs) {
+        try {
+            return bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Réponse qui libère sa place dans la cloison une seule fois, à sa fermeture
+     */
+    private static final class ReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Semaphore bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingResponse(ClientHttpResponse delegate, Semaphore bulkhead) {
+            this.delegate = delegate;
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.test1.services.jwt;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache borné (TTL) devant JiraUserDetailsService pour que JwtRequestFilter
+ * n'appelle pas Jira à chaque requête authentifiée. Les chargements concurrents
+ * d'un même utilisateur ne font qu'un seul appel Jira.
+ */
+@Service
+public class CachedJiraUserDetailsService implements UserDetailsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachedJiraUserDetailsService.class);
+
+    private final LoadingCache<String, UserDetails> users;
+
+    @Autowired
+    public CachedJiraUserDetailsService(
+            JiraUserDetailsService jiraUserDetailsService,
+            MeterRegistry meterRegistry,
+            @Value("${jira.users.cache.ttl-ms:300000}") long ttlMs,
+            @Value("${jira.users.cache.max-size:10000}") long maxSize) {
+
+        this.users = Caffeine.newBuilder()
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(jiraUserDetailsService::loadUserByUsername);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "jira.users");
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        try {
+            return users.get(username);
+        } catch (UsernameNotFoundException e) {
+            // Utilisateur inconnu ou devenu inactif : aucune entrée ne doit subsister
+            evict(username);
+            throw e;
+        }
+    }
+
+    /**
+     * Met en cache un utilisateur déjà chargé depuis Jira (ex: à la connexion)
+     */
+    public void put(UserDetails userDetails) {
+        users.put(userDetails.getUsername(), userDetails);
+    }
+
+    /**
+     * Retire un utilisateur du cache (désactivation, identifiants refusés...)
+     */
+    public void evict(String username) {
+        if (username != null) {
+            users.invalidate(username);
+            logger.debug("Utilisateur retiré du cache: {}", username);
+        }
+    }
+}
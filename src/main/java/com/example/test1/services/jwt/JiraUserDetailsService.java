@@ -26,14 +26,23 @@ public class JiraUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         Map<String, Object> userInfo = jiraApiService.getUserByUsername(username);
 
-        if (userInfo == null) {
+        // JiraApiService renvoie une map vide (et non null) quand l'utilisateur est introuvable
+        if (userInfo == null || userInfo.isEmpty()) {
             userInfo = jiraApiService.getUserByEmail(username);
         }
 
-        if (userInfo == null) {
+        if (userInfo == null || userInfo.isEmpty()) {
             throw new UsernameNotFoundException("Utilisateur non trouvé: " + username);
         }
 
+        return toUserDetails(userInfo, username);
+    }
+
+    /**
+     * Construit l'utilisateur à partir d'une représentation Jira déjà récupérée
+     * (/user, /user/search ou /myself)
+     */
+    public UserDetails toUserDetails(Map<String, Object> userInfo, String username) throws UsernameNotFoundException {
         Boolean active = (Boolean) userInfo.get("active");
         if (active != null && !active) {
             throw new UsernameNotFoundException("Utilisateur inactif: " + username);
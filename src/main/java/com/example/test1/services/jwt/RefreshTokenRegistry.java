@@ -0,0 +1,51 @@
+package com.example.test1.services.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens de rafraîchissement déjà utilisés (claim jti) : chaque token n'est
+ * accepté qu'une fois par /login/refresh, qui en émet un nouveau. Les entrées
+ * expirent avec les tokens (jwt.refresh-token.ttl-ms). Registre en mémoire :
+ * propre à chaque instance de l'application.
+ */
+@Service
+public class RefreshTokenRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenRegistry.class);
+
+    private final Cache<String, Boolean> consumed;
+
+    @Autowired
+    public RefreshTokenRegistry(@Value("${jwt.refresh-token.ttl-ms:28800000}") long refreshTokenTtlMs,
+                                @Value("${jwt.refresh-token.registry.max-size:100000}") long maxSize) {
+        this.consumed = Caffeine.newBuilder()
+                .expireAfterWrite(refreshTokenTtlMs, TimeUnit.MILLISECONDS)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Marque le token comme utilisé
+     * @return false si le token n'a pas d'identifiant ou a déjà été utilisé
+     */
+    public boolean consume(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenId == null) {
+            return false;
+        }
+        if (consumed.asMap().putIfAbsent(tokenId, Boolean.TRUE) != null) {
+            logger.warn("⚠️ Token de rafraîchissement déjà utilisé pour: {}", claims.getSubject());
+            return false;
+        }
+        return true;
+    }
+}
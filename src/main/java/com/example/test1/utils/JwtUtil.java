@@ -1,24 +1,82 @@
 package com.example.test1.utils;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtUtil {
 
     public static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A713474375367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
 
+    private static final String CLAIM_TYPE = "type";
+    private static final String CLAIM_ACCOUNT = "account";
+    private static final String CLAIM_ACTIVE = "active";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
+
+    private final Key signKey;
+    private final JwtParser jwtParser;
+    private final boolean selfContained;
+    private final long accessTokenTtlMs;
+    private final long refreshTokenTtlMs;
+
+    public JwtUtil() {
+        this(false, 1000 * 60 * 5, 1000 * 60 * 60 * 8);
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${jwt.self-contained.enabled:false}") boolean selfContained,
+                   @Value("${jwt.access-token.ttl-ms:300000}") long accessTokenTtlMs,
+                   @Value("${jwt.refresh-token.ttl-ms:28800000}") long refreshTokenTtlMs) {
+        // Clé et parseur construits une seule fois (le parseur jjwt est immuable et thread-safe)
+        this.signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signKey).build();
+        this.selfContained = selfContained;
+        this.accessTokenTtlMs = accessTokenTtlMs;
+        this.refreshTokenTtlMs = refreshTokenTtlMs;
+    }
+
+    /**
+     * Mode "token autoportant" : le token d'accès embarque le principal
+     * (compte Jira, état actif, rôles) et le filtre n'interroge plus Jira
+     */
+    public boolean isSelfContained() {
+        return selfContained;
+    }
+
+    /**
+     * Vérifie la signature et l'expiration du token en une seule passe
+     * et retourne ses claims vérifiés
+     * @throws JwtException si le token est invalide, altéré ou expiré
+     */
+    public Claims verifyToken(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -28,41 +86,91 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verifyToken(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSignKey()).build().parseClaimsJws(token).getBody();
+    public Boolean validateToken(String token, UserDetails userDetails) {
+        return validateClaims(verifyToken(token), userDetails);
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Valide des claims déjà vérifiés par verifyToken pour l'utilisateur donné
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        String username = claims.getSubject();
+        return username != null && username.equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date());
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    /**
+     * Le token porte-t-il un principal complet (mode autoportant) ?
+     */
+    public boolean hasEmbeddedPrincipal(Claims claims) {
+        return TYPE_ACCESS.equals(claims.get(CLAIM_TYPE, String.class)) && claims.get(CLAIM_ROLES) != null;
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class));
+    }
+
+    /**
+     * Reconstruit l'utilisateur à partir des claims d'un token d'accès autoportant
+     */
+    public UserDetails extractPrincipal(Claims claims) {
+        String account = claims.get(CLAIM_ACCOUNT, String.class);
+        Boolean active = claims.get(CLAIM_ACTIVE, Boolean.class);
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        Object roles = claims.get(CLAIM_ROLES);
+        if (roles instanceof Collection) {
+            for (Object role : (Collection<?>) roles) {
+                authorities.add(new SimpleGrantedAuthority(String.valueOf(role)));
+            }
+        }
+
+        return new User(account != null ? account : claims.getSubject(), "",
+                active == null || active, true, true, true, authorities);
+    }
+
+    /**
+     * Token d'accès court embarquant le compte Jira, l'état actif et les rôles
+     */
+    public String generateAccessToken(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TYPE, TYPE_ACCESS);
+        claims.put(CLAIM_ACCOUNT, userDetails.getUsername());
+        claims.put(CLAIM_ACTIVE, userDetails.isEnabled());
+        claims.put(CLAIM_ROLES, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        return createToken(claims, userDetails.getUsername(), accessTokenTtlMs);
+    }
+
+    /**
+     * Token de rafraîchissement : seul /login/refresh l'accepte, une seule fois
+     * (identifiant jti, voir RefreshTokenRegistry), et revérifie l'utilisateur dans Jira
+     */
+    public String generateRefreshToken(String username) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TYPE, TYPE_REFRESH);
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        return createToken(claims, username, refreshTokenTtlMs);
     }
 
     public String generateToken(String username) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, username);
+        return createToken(claims, username, 1000 * 60 * 30);
     }
 
-    private String createToken(Map<String, Object> claims, String userName) {
+    private String createToken(Map<String, Object> claims, String userName, long ttlMs) {
         return Jwts
                 .builder()
                 .setClaims(claims)
                 .setSubject(userName)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 30))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256).compact();
-    }
-
-    private Key getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-        return Keys.hmacShaKeyFor(keyBytes);
+                .setExpiration(new Date(System.currentTimeMillis() + ttlMs))
+                .signWith(signKey, SignatureAlgorithm.HS256).compact();
     }
 
 }
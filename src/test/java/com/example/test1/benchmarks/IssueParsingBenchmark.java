@@ -0,0 +1,177 @@
+package com.example.test1.benchmarks;
+
+import com.example.test1.entities.jira.Issue;
+import com.example.test1.services.jira.JiraIssueParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare le parsing d'une page /rest/api/2/search (100 tickets, longues descriptions,
+ * champs personnalisés) : ancien chemin String + readTree + mapping JsonNode
+ * contre le parseur en streaming JiraIssueParser.
+ *
+ * Lancement (allocations via -prof gc, colonne gc.alloc.rate.norm) :
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.test1.benchmarks.IssueParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssueParsingBenchmark {
+
+    @Param({"100"})
+    public int issueCount;
+
+    @Param({"4000"})
+    public int descriptionLength;
+
+    private ObjectMapper objectMapper;
+    private JiraIssueParser parser;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        parser = new JiraIssueParser(objectMapper);
+        payload = buildSearchResponse(issueCount, descriptionLength).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Issue> treeModel() throws IOException {
+        // Reproduit l'ancien chemin : corps lu en String puis arbre JsonNode complet
+        String body = new String(payload, StandardCharsets.UTF_8);
+        JsonNode issuesArray = objectMapper.readTree(body).get("issues");
+        List<Issue> issues = new ArrayList<>();
+        for (JsonNode jsonIssue : issuesArray) {
+            issues.add(mapJsonToIssue(jsonIssue));
+        }
+        return issues;
+    }
+
+    @Benchmark
+    public List<Issue> streaming() throws IOException {
+        List<Issue> issues = new ArrayList<>();
+        parser.parseSearchResponse(new ByteArrayInputStream(payload), issues::add);
+        return issues;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(IssueParsingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    static String buildSearchResponse(int issueCount, int descriptionLength) {
+        StringBuilder description = new StringBuilder();
+        while (description.length() < descriptionLength) {
+            description.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ");
+        }
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\"expand\":\"names,schema\",\"startAt\":0,\"maxResults\":").append(issueCount)
+                .append(",\"total\":").append(issueCount * 10).append(",\"issues\":[");
+        for (int i = 0; i < issueCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"expand\":\"operations,editmeta,changelog\",\"id\":\"").append(10000 + i)
+                    .append("\",\"self\":\"http://localhost:8080/rest/api/2/issue/").append(10000 + i)
+                    .append("\",\"key\":\"DEMO-").append(i).append("\",\"fields\":{")
+                    .append("\"summary\":\"Ticket numéro ").append(i).append("\",")
+                    .append("\"description\":\"").append(description).append("\",")
+                    .append("\"status\":{\"self\":\"x\",\"name\":\"In Progress\",\"id\":\"3\",\"statusCategory\":{\"id\":4,\"key\":\"indeterminate\"}},")
+                    .append("\"priority\":{\"self\":\"x\",\"name\":\"Major\",\"id\":\"3\"},")
+                    .append("\"issuetype\":{\"self\":\"x\",\"name\":\"Bug\",\"subtask\":false},")
+                    .append("\"assignee\":{\"name\":\"jdoe\",\"displayName\":\"John Doe\",\"avatarUrls\":{\"48x48\":\"a\",\"24x24\":\"b\"}},")
+                    .append("\"reporter\":{\"name\":\"asmith\",\"displayName\":\"Anna Smith\"},")
+                    .append("\"project\":{\"key\":\"DEMO\",\"name\":\"Demo project\",\"projectCategory\":{\"name\":\"x\"}},")
+                    .append("\"created\":\"2024-01-15T10:23:45.000+0100\",")
+                    .append("\"updated\":\"2024-02-01T08:00:00.000+0100\",")
+                    .append("\"resolution\":null,");
+            for (int c = 0; c < 30; c++) {
+                json.append("\"customfield_").append(10100 + c).append("\":{\"value\":\"option ").append(c)
+                        .append("\",\"id\":\"").append(c).append("\"},");
+            }
+            json.append("\"labels\":[\"backend\",\"perf\"],\"comment\":{\"comments\":[],\"total\":0}}}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    private static Issue mapJsonToIssue(JsonNode jsonIssue) {
+        Issue issue = new Issue();
+        issue.setId(getJsonString(jsonIssue, "id"));
+        issue.setKey(getJsonString(jsonIssue, "key"));
+
+        JsonNode fields = jsonIssue.get("fields");
+        if (fields != null) {
+            issue.setSummary(getJsonString(fields, "summary"));
+            issue.setDescription(getJsonString(fields, "description"));
+            JsonNode status = fields.get("status");
+            if (status != null) {
+                issue.setStatus(getJsonString(status, "name"));
+            }
+            JsonNode priority = fields.get("priority");
+            if (priority != null) {
+                issue.setPriority(getJsonString(priority, "name"));
+            }
+            JsonNode issueType = fields.get("issuetype");
+            if (issueType != null) {
+                issue.setIssueType(getJsonString(issueType, "name"));
+            }
+            JsonNode assignee = fields.get("assignee");
+            if (assignee != null && !assignee.isNull()) {
+                issue.setAssignee(getJsonString(assignee, "displayName"));
+            }
+            JsonNode reporter = fields.get("reporter");
+            if (reporter != null) {
+                issue.setReporter(getJsonString(reporter, "displayName"));
+            }
+            JsonNode project = fields.get("project");
+            if (project != null) {
+                issue.setProjectKey(getJsonString(project, "key"));
+                issue.setProjectName(getJsonString(project, "name"));
+            }
+            issue.setCreated(getJsonString(fields, "created"));
+            issue.setUpdated(getJsonString(fields, "updated"));
+            JsonNode resolution = fields.get("resolution");
+            if (resolution != null && !resolution.isNull()) {
+                issue.setResolution(getJsonString(resolution, "name"));
+            }
+        }
+        return issue;
+    }
+
+    private static String getJsonString(JsonNode node, String fieldName) {
+        JsonNode field = node.get(fieldName);
+        return (field != null && !field.isNull()) ? field.asText() : null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.test1.benchmarks;
+
+import com.example.test1.configuration.VirtualThreads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Temps pour traiter une rafale d'appels Jira bloquants (simulés par une
+ * attente de jiraLatencyMs) : pool de plateforme de la taille de
+ * jira.executor.pool-size contre un thread virtuel par appel.
+ *
+ * Lancement (Java 21+ pour la variante virtual) :
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.test1.benchmarks.VirtualThreadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String executor;
+
+    @Param({"100", "1000"})
+    public int concurrentCalls;
+
+    @Param({"20"})
+    public int jiraLatencyMs;
+
+    // jira.executor.pool-size par défaut
+    @Param({"16"})
+    public int platformPoolSize;
+
+    private ExecutorService executorService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executorService = "virtual".equals(executor)
+                ? VirtualThreads.newThreadPerTaskExecutor("bench-")
+                : Executors.newFixedThreadPool(platformPoolSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public int blockingJiraCalls() throws InterruptedException, ExecutionException {
+        List<Future<Integer>> calls = new ArrayList<>(concurrentCalls);
+        for (int i = 0; i < concurrentCalls; i++) {
+            final int call = i;
+            calls.add(executorService.submit(() -> {
+                Thread.sleep(jiraLatencyMs);
+                return call;
+            }));
+        }
+
+        int sum = 0;
+        for (Future<Integer> call : calls) {
+            sum += call.get();
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(VirtualThreadBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
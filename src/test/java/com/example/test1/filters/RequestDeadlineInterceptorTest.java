@@ -0,0 +1,101 @@
+package com.example.test1.filters;
+
+import com.example.test1.controllers.JiraTimeout;
+import com.example.test1.services.jira.client.JiraDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDeadlineInterceptorTest {
+
+    @AfterEach
+    void clear() {
+        JiraDeadline.clear();
+    }
+
+    @Test
+    void headerIsCappedByTheMaximum() throws Exception {
+        long remaining = remainingMillis("600000", "annotated");
+
+        assertTrue(remaining > 100000 && remaining <= 120000);
+    }
+
+    @Test
+    void headerOverridesTheAnnotation() throws Exception {
+        long remaining = remainingMillis("60000", "annotated");
+
+        assertTrue(remaining > 50000 && remaining <= 60000);
+    }
+
+    @Test
+    void annotationThenDefaultApplyWithoutAValidHeader() throws Exception {
+        long annotated = remainingMillis("abc", "annotated");
+        assertTrue(annotated > 5000 && annotated <= 10000);
+
+        long fallback = remainingMillis(null, "plain");
+        assertTrue(fallback > 20000 && fallback <= 30000);
+    }
+
+    @Test
+    void zeroAnnotationIgnoresTheHeader() throws Exception {
+        interceptor().preHandle(request("60000"), new MockHttpServletResponse(), handler("stream"));
+
+        assertNull(JiraDeadline.current());
+    }
+
+    @Test
+    void deadlineIsClearedAfterTheRequest() throws Exception {
+        RequestDeadlineInterceptor interceptor = interceptor();
+        MockHttpServletRequest request = request(null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, handler("plain"));
+        interceptor.afterCompletion(request, response, handler("plain"), null);
+
+        assertNull(JiraDeadline.current());
+    }
+
+    private static long remainingMillis(String header, String method) throws Exception {
+        interceptor().preHandle(request(header), new MockHttpServletResponse(), handler(method));
+        return JiraDeadline.remainingMillis();
+    }
+
+    private static RequestDeadlineInterceptor interceptor() {
+        RequestDeadlineInterceptor interceptor = new RequestDeadlineInterceptor();
+        ReflectionTestUtils.setField(interceptor, "defaultTimeoutMs", 30000L);
+        ReflectionTestUtils.setField(interceptor, "maxTimeoutMs", 120000L);
+        return interceptor;
+    }
+
+    private static MockHttpServletRequest request(String header) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jira/issues");
+        if (header != null) {
+            request.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, header);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(method));
+    }
+
+    public static class Endpoints {
+
+        @JiraTimeout(10000)
+        public void annotated() {
+        }
+
+        public void plain() {
+        }
+
+        @JiraTimeout(0)
+        public void stream() {
+        }
+    }
+}
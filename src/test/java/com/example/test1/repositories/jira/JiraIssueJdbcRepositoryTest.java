@@ -0,0 +1,28 @@
+package com.example.test1.repositories.jira;
+
+import com.example.test1.services.jira.IssueFieldSelection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JiraIssueJdbcRepositoryTest {
+
+    @Test
+    void selectListFollowsTheRequestedFields() {
+        String select = JiraIssueJdbcRepository.select(IssueFieldSelection.parse("summary,status"));
+
+        assertEquals("SELECT ji.ID, p.pkey, ji.issuenum, ji.SUMMARY, st.pname AS status_name", select);
+    }
+
+    @Test
+    void allFieldsReadDescriptionAndUserNames() {
+        String select = JiraIssueJdbcRepository.select(IssueFieldSelection.all());
+
+        assertTrue(select.contains("ji.DESCRIPTION"));
+        assertTrue(select.contains("assignee_display"));
+        assertTrue(select.contains("reporter_display"));
+        assertFalse(JiraIssueJdbcRepository.select(IssueFieldSelection.parse("key")).contains("cwd_user"));
+    }
+}
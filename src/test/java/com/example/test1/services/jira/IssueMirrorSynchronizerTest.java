@@ -0,0 +1,127 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IssueMirrorSynchronizerTest {
+
+    private static final Pattern SINCE = Pattern.compile("updated >= \"([^\"]+)\"");
+    private static final DateTimeFormatter JQL_DATE = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+
+    // Tickets "dans Jira" : clé -> minute de mise à jour (2024-01-15 10:mm UTC)
+    private final Map<String, Integer> jira = new LinkedHashMap<>();
+    private final List<String> saved = new ArrayList<>();
+    private Runnable afterFirstPage = () -> { };
+    private int pagesRead;
+
+    private IssueMirrorSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        IssueService issueService = mock(IssueService.class);
+        IssueMirror issueMirror = mock(IssueMirror.class);
+
+        when(issueService.fetchIssuesPage(anyString(), anyInt(), anyInt(), any(), any())).thenAnswer(call ->
+                search(call.getArgument(0), call.getArgument(1), call.getArgument(2), call.getArgument(4)));
+        when(issueMirror.saveAll(anyList())).thenAnswer(call -> {
+            List<Issue> issues = call.getArgument(0);
+            Long max = null;
+            for (Issue issue : issues) {
+                saved.add(issue.getKey());
+                Long updated = IssueMirror.toEpochMillis(issue.getUpdated());
+                max = max == null || updated > max ? updated : max;
+            }
+            return max;
+        });
+
+        synchronizer = new IssueMirrorSynchronizer();
+        ReflectionTestUtils.setField(synchronizer, "issueService", issueService);
+        ReflectionTestUtils.setField(synchronizer, "issueMirror", issueMirror);
+        ReflectionTestUtils.setField(synchronizer, "batchSize", 2);
+        ReflectionTestUtils.setField(synchronizer, "timeZone", "UTC");
+    }
+
+    @Test
+    void windowStartsAtTheMinuteOfTheCursorOrderedByUpdatedThenKey() {
+        assertEquals("ORDER BY updated ASC, key ASC", synchronizer.windowJql(null));
+        assertEquals("updated >= \"2024/01/15 10:03\" ORDER BY updated ASC, key ASC",
+                synchronizer.windowJql(millis(3) + 45_000));
+    }
+
+    @Test
+    void issueUpdatedMidSyncDoesNotShiftOlderIssuesOutOfTheWindow() {
+        for (int i = 1; i <= 5; i++) {
+            jira.put("A-" + i, i);
+        }
+        // A-1 passe en fin de liste après la première page : un offset 2 sauterait A-3
+        afterFirstPage = () -> jira.put("A-1", 10);
+
+        Long maxUpdated = synchronizer.readUpdatedSince(null, issues -> { });
+
+        assertEquals(millis(10), maxUpdated);
+        assertEquals(Arrays.asList("A-1", "A-2", "A-3", "A-4", "A-5", "A-1"), saved);
+    }
+
+    @Test
+    void fullPageWithinOneMinuteFallsBackToOffset() {
+        for (int i = 1; i <= 5; i++) {
+            jira.put("B-" + i, 0);
+        }
+        jira.put("B-6", 1);
+
+        assertEquals(millis(1), synchronizer.readUpdatedSince(millis(0), issues -> { }));
+        assertEquals(Arrays.asList("B-1", "B-2", "B-3", "B-4", "B-5", "B-6"), saved);
+    }
+
+    private SearchPage search(String jql, int startAt, int maxResults, Consumer<Issue> sink) {
+        Matcher since = SINCE.matcher(jql);
+        long from = since.find()
+                ? LocalDateTime.parse(since.group(1), JQL_DATE).toInstant(ZoneOffset.UTC).toEpochMilli()
+                : Long.MIN_VALUE;
+
+        List<Map.Entry<String, Integer>> matching = jira.entrySet().stream()
+                .filter(entry -> millis(entry.getValue()) >= from)
+                .sorted(Comparator.<Map.Entry<String, Integer>>comparingInt(Map.Entry::getValue)
+                        .thenComparing(Map.Entry::getKey))
+                .collect(Collectors.toList());
+
+        int count = 0;
+        for (int i = startAt; i < matching.size() && count < maxResults; i++, count++) {
+            Issue issue = new Issue(matching.get(i).getKey(), matching.get(i).getKey(), "");
+            issue.setUpdated(String.format("2024-01-15T10:%02d:00.000+0000", matching.get(i).getValue()));
+            sink.accept(issue);
+        }
+        if (pagesRead++ == 0) {
+            afterFirstPage.run();
+        }
+        return new SearchPage(startAt, maxResults, matching.size(), count);
+    }
+
+    private static long millis(int minute) {
+        return LocalDateTime.of(2024, 1, 15, 10, minute).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import com.example.test1.entities.primary.MirroredIssue;
+import com.example.test1.entities.primary.MirroredIssueSummary;
+import com.example.test1.repositories.primary.MirroredIssueRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IssueMirrorTest {
+
+    @Test
+    void listsSkipTheDescriptionAndUnrequestedFields() {
+        MirroredIssueRepository repository = mock(MirroredIssueRepository.class);
+        IssueMirror mirror = new IssueMirror();
+        ReflectionTestUtils.setField(mirror, "issueRepository", repository);
+
+        MirroredIssue stored = new MirroredIssue();
+        stored.setKey("PROJ-1");
+        stored.setId("10001");
+        stored.setSummary("Premier ticket");
+        stored.setStatus("Open");
+        stored.setProjectKey("PROJ");
+        stored.setReporter("Alice");
+        when(repository.findByStatusOrderByUpdatedAtDesc(eq("Open"), any(), eq(MirroredIssueSummary.class)))
+                .thenReturn(Collections.<MirroredIssueSummary>singletonList(stored));
+
+        List<Issue> issues = mirror.findByStatus("Open", 10, IssueFieldSelection.parse("summary"));
+
+        verify(repository).findByStatusOrderByUpdatedAtDesc(eq("Open"), any(), eq(MirroredIssueSummary.class));
+        assertEquals("PROJ-1", issues.get(0).getKey());
+        assertEquals("Premier ticket", issues.get(0).getSummary());
+        assertNull(issues.get(0).getStatus());
+        assertNull(issues.get(0).getReporter());
+    }
+}
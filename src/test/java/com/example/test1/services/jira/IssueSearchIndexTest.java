@@ -0,0 +1,67 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IssueSearchIndexTest {
+
+    @Test
+    void ranksMatchesAndTreatsLastTermAsPrefix() {
+        IssueSearchIndex index = new IssueSearchIndex(100);
+        index.index(issue("DEMO-1", "Erreur de connexion", "La page de connexion renvoie une erreur 500"));
+        index.index(issue("DEMO-2", "Export CSV", "Une erreur apparaît parfois lors de l'export"));
+        index.index(issue("DEMO-3", "Nouveau tableau de bord", null));
+
+        List<Issue> hits = index.search("erreur conn", 10);
+        assertEquals(1, hits.size());
+        assertEquals("DEMO-1", hits.get(0).getKey());
+
+        // Le résumé pèse plus que la description ; accents et casse ignorés
+        hits = index.search("ERREUR", 10);
+        assertEquals(2, hits.size());
+        assertEquals("DEMO-1", hits.get(0).getKey());
+        assertEquals("DEMO-2", index.search("apparait", 10).get(0).getKey());
+
+        assertEquals("DEMO-3", index.search("demo-3", 10).get(0).getKey());
+    }
+
+    @Test
+    void reindexingReplacesPreviousTerms() {
+        IssueSearchIndex index = new IssueSearchIndex(100);
+        index.index(issue("DEMO-1", "Ancien titre", null));
+        index.index(issue("DEMO-1", "Titre corrigé", null));
+
+        assertEquals(1, index.size());
+        assertTrue(index.search("ancien", 10).isEmpty());
+        assertEquals(1, index.search("corrige", 10).size());
+
+        index.remove("DEMO-1");
+        assertTrue(index.search("titre", 10).isEmpty());
+    }
+
+    @Test
+    void completeOnlyOnceMarkedAndNeverFull() {
+        IssueSearchIndex index = new IssueSearchIndex(1);
+        index.index(issue("DEMO-1", "Premier", null));
+        assertFalse(index.isComplete());
+
+        index.markComplete();
+        assertTrue(index.isComplete());
+
+        // Ticket refusé faute de place : l'index ne couvre plus tous les tickets
+        index.index(issue("DEMO-2", "Second", null));
+        assertFalse(index.isComplete());
+    }
+
+    private static Issue issue(String key, String summary, String description) {
+        Issue issue = new Issue(key.substring(5), key, summary);
+        issue.setDescription(description);
+        return issue;
+    }
+}
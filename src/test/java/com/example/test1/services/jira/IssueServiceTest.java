@@ -0,0 +1,80 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import com.example.test1.repositories.jira.JiraIssueJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IssueServiceTest {
+
+    private final JiraIssueJdbcRepository jdbc = mock(JiraIssueJdbcRepository.class);
+    private IssueService issueService;
+
+    @BeforeEach
+    void setUp() {
+        // Backend base Jira : aucun appel REST possible (restTemplate absent)
+        issueService = new IssueService();
+        ReflectionTestUtils.setField(issueService, "readBackend", "db");
+        ReflectionTestUtils.setField(issueService, "issueJdbcRepository", jdbc);
+        ReflectionTestUtils.setField(issueService, "issueMirror", mock(IssueMirror.class));
+        ReflectionTestUtils.setField(issueService, "searchIndex", mock(IssueSearchIndex.class));
+        ReflectionTestUtils.setField(issueService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(issueService, "detailCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(issueService, "detailCacheTtlMs", 60000L);
+        ReflectionTestUtils.setField(issueService, "jiraExecutor", (Executor) Runnable::run);
+        issueService.initDetailCache();
+    }
+
+    @Test
+    void detailsAndBatchShareTheCacheWhateverTheKeyCase() {
+        Issue issue = new Issue("10001", "PROJ-1", "Premier ticket");
+        when(jdbc.findByKey("PROJ-1")).thenReturn(issue);
+
+        assertSame(issue, issueService.getIssueDetails(" proj-1"));
+        assertSame(issue, issueService.getIssueDetails("PROJ-1"));
+
+        IssueBatch batch = issueService.getIssuesByKeys(Arrays.asList("proj-1", "Proj-1"));
+        assertEquals(Collections.singletonList(issue), batch.getIssues());
+        verify(jdbc, never()).findByKeys(anyCollection(), any());
+    }
+
+    @Test
+    void batchReadsTheJiraDatabaseWhenItIsTheBackend() {
+        Issue issue = new Issue("10002", "PROJ-2", "Deuxième ticket");
+        when(jdbc.findByKeys(Arrays.asList("PROJ-2", "PROJ-3"), IssueFieldSelection.all())).thenReturn(Collections.singletonList(issue));
+
+        IssueBatch batch = issueService.getIssuesByKeys(Arrays.asList("proj-2", "PROJ-3"));
+
+        assertEquals(Collections.singletonList(issue), batch.getIssues());
+        assertEquals(Collections.singletonList("PROJ-3"), batch.getMissingKeys());
+    }
+
+    @Test
+    void asyncBatchServesCachedIssuesAndReadsTheRestFromTheJiraDatabase() {
+        Issue cached = new Issue("10001", "PROJ-1", "Premier ticket");
+        Issue stored = new Issue("10002", "PROJ-2", "Deuxième ticket");
+        when(jdbc.findByKey("PROJ-1")).thenReturn(cached);
+        when(jdbc.findByKeys(Arrays.asList("PROJ-3", "PROJ-2"), IssueFieldSelection.all())).thenReturn(Collections.singletonList(stored));
+        issueService.getIssueDetails("PROJ-1");
+
+        IssueBatch batch = issueService.getIssuesByKeysAsync(Arrays.asList("proj-3", "PROJ-2", "proj-1"), IssueFieldSelection.all()).join();
+
+        assertEquals(Arrays.asList(stored, cached), batch.getIssues());
+        assertEquals(Collections.singletonList("PROJ-3"), batch.getMissingKeys());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.controllers.JiraController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JiraHealthProberTest {
+
+    private final AtomicBoolean jiraUp = new AtomicBoolean(true);
+    private JiraHealthProber prober;
+
+    @BeforeEach
+    void setUp() {
+        ProjectService projectService = mock(ProjectService.class);
+        IssueService issueService = mock(IssueService.class);
+        when(projectService.validateJiraConfiguration()).thenAnswer(call -> jiraUp.get());
+        when(issueService.validateJiraConfiguration()).thenAnswer(call -> {
+            if (!jiraUp.get()) {
+                throw new RuntimeException("Connexion refusée");
+            }
+            return true;
+        });
+
+        prober = new JiraHealthProber();
+        ReflectionTestUtils.setField(prober, "projectService", projectService);
+        ReflectionTestUtils.setField(prober, "issueService", issueService);
+        ReflectionTestUtils.setField(prober, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(prober, "historySize", 3);
+        ReflectionTestUtils.setField(prober, "maxAgeMs", 60000L);
+        prober.initChecks();
+    }
+
+    @Test
+    void healthEndpointIsUnavailableUntilTheFirstProbe() {
+        JiraController controller = new JiraController();
+        ReflectionTestUtils.setField(controller, "healthProber", prober);
+
+        assertNull(prober.getStatus(JiraHealthProber.PROJECTS));
+        assertFalse(prober.isHealthy());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, controller.projectsHealthCheck(false).getStatusCode());
+
+        prober.probe();
+        ResponseEntity<?> response = controller.projectsHealthCheck(false);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(prober.isHealthy());
+    }
+
+    @Test
+    void historyKeepsOnlyTheLatestResults() {
+        prober.probe();
+        jiraUp.set(false);
+        prober.probe();
+        prober.probe();
+        prober.probe();
+
+        List<JiraHealthStatus> history = prober.getHistory(JiraHealthProber.ISSUES);
+        assertEquals(3, history.size());
+        for (JiraHealthStatus status : history) {
+            assertFalse(status.isHealthy());
+            assertEquals("Connexion refusée", status.getError());
+        }
+        assertEquals("Configuration Jira invalide", prober.getStatus(JiraHealthProber.PROJECTS).getError());
+    }
+
+    @Test
+    void staleResultIsNotHealthy() {
+        prober.probe();
+        JiraHealthStatus latest = prober.getStatus(JiraHealthProber.PROJECTS);
+        assertTrue(latest.isHealthy());
+        assertFalse(prober.isStale(latest));
+
+        // Sonde bloquée : le dernier succès ne vaut plus au-delà de jira.health.max-age-ms
+        JiraHealthStatus old = new JiraHealthStatus(JiraHealthProber.PROJECTS, true, 5,
+                System.currentTimeMillis() - 60001, null);
+        assertTrue(prober.isStale(old));
+        ReflectionTestUtils.setField(prober, "maxAgeMs", -1L);
+        assertFalse(prober.isHealthy(JiraHealthProber.PROJECTS));
+    }
+
+    @Test
+    void registeredCheckIsProbedWithTheOthers() {
+        AtomicBoolean credentialsValid = new AtomicBoolean(false);
+        prober.register(JiraHealthProber.API, credentialsValid::get);
+
+        prober.probe();
+        assertTrue(prober.isHealthy(JiraHealthProber.PROJECTS));
+        assertFalse(prober.isHealthy(JiraHealthProber.API));
+        assertFalse(prober.isHealthy());
+
+        credentialsValid.set(true);
+        prober.probe();
+        assertTrue(prober.isHealthy());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.entities.jira.Issue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JiraIssueParserTest {
+
+    private final JiraIssueParser parser = new JiraIssueParser(new ObjectMapper());
+
+    @Test
+    void parsesSearchResponseAndSkipsUnknownFields() throws IOException {
+        String json = "{\"expand\":\"schema\",\"startAt\":100,\"maxResults\":50,\"total\":230,\"issues\":["
+                + "{\"id\":\"10001\",\"key\":\"DEMO-1\",\"self\":\"x\",\"fields\":{"
+                + "\"summary\":\"Premier\",\"description\":\"Texte\","
+                + "\"customfield_10100\":{\"nested\":[1,2,{\"deep\":true}]},"
+                + "\"status\":{\"name\":\"Open\",\"statusCategory\":{\"name\":\"To Do\"}},"
+                + "\"priority\":{\"name\":\"Major\"},\"issuetype\":{\"name\":\"Bug\"},"
+                + "\"assignee\":null,\"reporter\":{\"displayName\":\"Anna Smith\"},"
+                + "\"project\":{\"key\":\"DEMO\",\"name\":\"Demo\"},"
+                + "\"created\":\"2024-01-15T10:23:45.000+0100\",\"updated\":\"2024-02-01T08:00:00.000+0100\","
+                + "\"resolution\":{\"name\":\"Fixed\"}}},"
+                + "{\"id\":10002,\"key\":\"DEMO-2\",\"fields\":{\"summary\":\"Second\",\"description\":null,"
+                + "\"assignee\":{\"displayName\":\"John Doe\",\"name\":\"jdoe\"}}}"
+                + "],\"warningMessages\":[]}";
+
+        List<Issue> issues = new ArrayList<>();
+        SearchPage page = parser.parseSearchResponse(stream(json), issues::add);
+
+        assertEquals(100, page.getStartAt());
+        assertEquals(50, page.getMaxResults());
+        assertEquals(230, page.getTotal());
+        assertEquals(2, page.getCount());
+        assertEquals(2, issues.size());
+
+        Issue first = issues.get(0);
+        assertEquals("10001", first.getId());
+        assertEquals("DEMO-1", first.getKey());
+        assertEquals("Premier", first.getSummary());
+        assertEquals("Texte", first.getDescription());
+        assertEquals("Open", first.getStatus());
+        assertEquals("Major", first.getPriority());
+        assertEquals("Bug", first.getIssueType());
+        assertNull(first.getAssignee());
+        assertEquals("Anna Smith", first.getReporter());
+        assertEquals("DEMO", first.getProjectKey());
+        assertEquals("Demo", first.getProjectName());
+        assertEquals("2024-02-01T08:00:00.000+0100", first.getUpdated());
+        assertEquals("Fixed", first.getResolution());
+
+        Issue second = issues.get(1);
+        assertEquals("10002", second.getId());
+        assertNull(second.getDescription());
+        assertEquals("John Doe", second.getAssignee());
+        assertEquals("jdoe", second.getAssigneeName());
+    }
+
+    @Test
+    void parsesSingleIssue() throws IOException {
+        String json = "{\"expand\":\"renderedFields\",\"id\":\"42\",\"key\":\"DEMO-42\","
+                + "\"fields\":{\"summary\":\"Détail\",\"status\":{\"name\":\"Done\"}},\"renderedFields\":{\"summary\":\"x\"}}";
+
+        Issue issue = parser.parseIssue(stream(json));
+
+        assertEquals("DEMO-42", issue.getKey());
+        assertEquals("Détail", issue.getSummary());
+        assertEquals("Done", issue.getStatus());
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
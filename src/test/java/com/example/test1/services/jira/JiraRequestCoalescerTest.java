@@ -0,0 +1,227 @@
+package com.example.test1.services.jira;
+
+import com.example.test1.services.jira.client.JiraCallRejectedException;
+import com.example.test1.services.jira.client.JiraDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class JiraRequestCoalescerTest {
+
+    @Test
+    void concurrentIdenticalCallsShareOneExecution() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JiraRequestCoalescer coalescer = new JiraRequestCoalescer(registry, true);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() ->
+                coalescer.execute("search", "http://jira/rest/api/2/search?jql=x", "Basic a", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return result;
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() ->
+                coalescer.execute("search", "http://jira/rest/api/2/search?jql=x", "Basic a", () -> {
+                    calls.incrementAndGet();
+                    return new Object();
+                }));
+        // Le suiveur doit être en attente avant la fin de l'appel en cours
+        awaitCoalesced(registry);
+        release.countDown();
+
+        assertSame(result, leader.get(5, TimeUnit.SECONDS));
+        assertSame(result, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+
+        // Autre compte : jamais regroupé
+        coalescer.execute("search", "http://jira/rest/api/2/search?jql=x", "Basic b", calls::incrementAndGet);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void asyncCallersShareTheInFlightFuture() throws Exception {
+        JiraRequestCoalescer coalescer = new JiraRequestCoalescer(new SimpleMeterRegistry(), true);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = coalescer.executeAsync("issue", "http://jira/rest/api/2/issue/A-1", "Basic a", () -> {
+            calls.incrementAndGet();
+            return response;
+        });
+        CompletableFuture<String> follower = coalescer.executeAsync("issue", "http://jira/rest/api/2/issue/A-1", "Basic a", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("autre");
+        });
+        response.complete("A-1");
+
+        assertEquals("A-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("A-1", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+
+        // Appel terminé : le suivant rappelle Jira
+        coalescer.executeAsync("issue", "http://jira/rest/api/2/issue/A-1", "Basic a", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("A-1");
+        }).get(5, TimeUnit.SECONDS);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void sharedCallIsCutOffAtTheLeaderDeadline() {
+        JiraRequestCoalescer coalescer = new JiraRequestCoalescer(new SimpleMeterRegistry(), true);
+        AtomicReference<Long> sharedDeadline = new AtomicReference<>();
+
+        long startedAt = System.nanoTime();
+        JiraDeadline.start(100);
+        try {
+            Long deadline = JiraDeadline.current();
+            assertThrows(ResourceAccessException.class, () ->
+                    coalescer.execute("search", "http://jira/rest/api/2/search?jql=x", "Basic a", () -> {
+                        sharedDeadline.set(JiraDeadline.current());
+                        return slowJira();
+                    }));
+            assertEquals(deadline, sharedDeadline.get());
+        } finally {
+            JiraDeadline.clear();
+        }
+        // Coupé à l'échéance (100 ms), pas au timeout de lecture (15 s)
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void followerRetriesACallCutShortByTheLeaderDeadline() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JiraRequestCoalescer coalescer = new JiraRequestCoalescer(registry, true);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        Object result = new Object();
+        Supplier<Object> jira = () -> {
+            calls.incrementAndGet();
+            if (JiraDeadline.current() == null) {
+                return result;
+            }
+            started.countDown();
+            return slowJira();
+        };
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> {
+            JiraDeadline.start(300);
+            try {
+                return coalescer.execute("search", "http://jira/rest/api/2/search?jql=x", "Basic a", jira);
+            } finally {
+                JiraDeadline.clear();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() ->
+                coalescer.execute("search", "http://jira/rest/api/2/search?jql=x", "Basic a", jira));
+        awaitCoalesced(registry);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof ResourceAccessException);
+        // Sans échéance, le suiveur relance l'appel au lieu de partager l'échec du lanceur
+        assertSame(result, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void asyncFollowerRetriesACallCutShortByTheLeaderDeadline() throws Exception {
+        JiraRequestCoalescer coalescer = new JiraRequestCoalescer(new SimpleMeterRegistry(), true);
+        CompletableFuture<String> response = new CompletableFuture<>();
+        AtomicReference<Long> sharedDeadline = new AtomicReference<>();
+
+        CompletableFuture<String> leader;
+        Long deadline;
+        JiraDeadline.start(50);
+        try {
+            deadline = JiraDeadline.current();
+            leader = coalescer.executeAsync("issue", "http://jira/rest/api/2/issue/A-1", "Basic a", () -> {
+                sharedDeadline.set(JiraDeadline.current());
+                return response;
+            });
+        } finally {
+            JiraDeadline.clear();
+        }
+        CompletableFuture<String> follower = coalescer.executeAsync("issue", "http://jira/rest/api/2/issue/A-1", "Basic a",
+                () -> CompletableFuture.completedFuture("A-1"));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof JiraCallRejectedException);
+        assertEquals(deadline, sharedDeadline.get());
+        assertFalse(follower.isDone());
+
+        // Timeout du WebClient à l'échéance du lanceur : le suiveur relance l'appel
+        response.completeExceptionally(new ResourceAccessException("Read timed out"));
+        assertEquals("A-1", follower.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void expiredCallerIsRejectedWithoutCallingJira() {
+        JiraRequestCoalescer coalescer = new JiraRequestCoalescer(new SimpleMeterRegistry(), true);
+        AtomicInteger calls = new AtomicInteger();
+
+        JiraDeadline.start(0);
+        try {
+            assertThrows(JiraCallRejectedException.class, () ->
+                    coalescer.execute("issue", "http://jira/rest/api/2/issue/A-1", "Basic a", calls::incrementAndGet));
+        } finally {
+            JiraDeadline.clear();
+        }
+        assertEquals(0, calls.get());
+    }
+
+    /**
+     * Jira qui ne répond pas : le transport abandonne au timeout de lecture
+     * (15 s) borné par l'échéance de l'appel, comme RestTemplateConfig
+     */
+    private static Object slowJira() {
+        await(new CountDownLatch(1), JiraDeadline.cap(15000));
+        throw new ResourceAccessException("Read timed out");
+    }
+
+    /**
+     * Attend (5 s au plus) qu'un appelant soit regroupé avec l'appel en cours
+     */
+    private static void awaitCoalesced(SimpleMeterRegistry registry) throws InterruptedException {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.find("jira.requests.coalesced").counter() == null) {
+            if (System.nanoTime() - until >= 0) {
+                fail("Aucun appel regroupé avec l'appel en cours");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        await(latch, 5000);
+    }
+
+    private static void await(CountDownLatch latch, long timeoutMs) {
+        try {
+            latch.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.test1.services.jira.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JiraCircuitBreakerTest {
+
+    @Test
+    void opensOnFailureRateThenRecoversThroughHalfOpen() {
+        AtomicLong now = new AtomicLong();
+        JiraCircuitBreaker breaker = new JiraCircuitBreaker(10, 4, 50, 1000, 2, now::get);
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onSuccess();
+        }
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+        assertEquals(JiraCircuitBreaker.State.CLOSED, breaker.getState());
+
+        // 2 échecs sur 4 appels : 50 %
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+        assertEquals(JiraCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(JiraCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(JiraCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failedTrialCallReopens() {
+        AtomicLong now = new AtomicLong();
+        JiraCircuitBreaker breaker = new JiraCircuitBreaker(4, 1, 50, 1000, 1, now::get);
+
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+        assertEquals(JiraCircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+        assertEquals(JiraCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void abandonedTrialCallGivesBackItsPermit() {
+        AtomicLong now = new AtomicLong();
+        JiraCircuitBreaker breaker = new JiraCircuitBreaker(4, 1, 50, 1000, 1, now::get);
+
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        // Appel d'essai annulé avant sa réponse : sans onIgnored(), plus aucun essai possible
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.onIgnored();
+        assertEquals(JiraCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onSuccess();
+        assertEquals(JiraCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.test1.services.jira.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JiraDeadlineExchangeFilterTest {
+
+    private static final ClientRequest ISSUE = ClientRequest
+            .create(HttpMethod.GET, URI.create("http://jira/rest/api/2/issue/A-1")).build();
+
+    @AfterEach
+    void clear() {
+        JiraDeadline.clear();
+    }
+
+    @Test
+    void deadlineIsPassedOnAsARequestAttribute() {
+        JiraDeadlineExchangeFilter filter = new JiraDeadlineExchangeFilter(new SimpleMeterRegistry());
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+
+        JiraDeadline.start(10000);
+        filter.filter(ISSUE, request -> {
+            sent.set(request);
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        }).block(Duration.ofSeconds(5));
+
+        assertEquals(JiraDeadline.current(), sent.get().attribute(JiraDeadline.ATTRIBUTE).orElse(null));
+    }
+
+    @Test
+    void withoutDeadlineTheRequestIsUnchanged() {
+        JiraDeadlineExchangeFilter filter = new JiraDeadlineExchangeFilter(new SimpleMeterRegistry());
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+
+        filter.filter(ISSUE, request -> {
+            sent.set(request);
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        }).block(Duration.ofSeconds(5));
+
+        assertFalse(sent.get().attribute(JiraDeadline.ATTRIBUTE).isPresent());
+    }
+
+    @Test
+    void responseWaitEndsAtTheDeadline() {
+        JiraDeadlineExchangeFilter filter = new JiraDeadlineExchangeFilter(new SimpleMeterRegistry());
+
+        JiraDeadline.start(50);
+        Mono<ClientResponse> response = filter.filter(ISSUE, request -> Mono.never());
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> response.block(Duration.ofSeconds(5)));
+        assertTrue(error.getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    void expiredDeadlineRejectsBothClientsWithoutCallingJira() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AtomicInteger calls = new AtomicInteger();
+
+        JiraDeadline.start(0);
+        Mono<ClientResponse> async = new JiraDeadlineExchangeFilter(registry).filter(ISSUE, request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        });
+        assertThrows(JiraCallRejectedException.class, () -> async.block(Duration.ofSeconds(5)));
+        assertThrows(JiraCallRejectedException.class, () -> new JiraDeadlineInterceptor(registry).intercept(
+                new MockClientHttpRequest(HttpMethod.GET, URI.create("http://jira/rest/api/2/issue/A-1")), new byte[0],
+                (request, body) -> {
+                    calls.incrementAndGet();
+                    return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                }));
+
+        assertEquals(0, calls.get());
+        assertEquals(2.0, registry.counter("jira.deadline.exceeded", "endpoint", "issue").count());
+    }
+}
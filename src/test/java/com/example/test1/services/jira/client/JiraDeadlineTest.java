@@ -0,0 +1,71 @@
+package com.example.test1.services.jira.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JiraDeadlineTest {
+
+    @AfterEach
+    void clear() {
+        JiraDeadline.clear();
+    }
+
+    @Test
+    void capKeepsTheConfiguredTimeoutWithoutDeadline() {
+        assertEquals(30000, JiraDeadline.cap(30000));
+        assertFalse(JiraDeadline.isExpired());
+    }
+
+    @Test
+    void capNeverFiresBeforeTheDeadline() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+        int capped = JiraDeadline.callWith(deadline, () -> JiraDeadline.cap(30000));
+
+        assertTrue(capped <= 200);
+        assertTrue(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(capped) - deadline >= 0);
+        // Plus court que le temps restant : inchangé
+        assertEquals(50, (int) JiraDeadline.callWith(deadline, () -> JiraDeadline.cap(50)));
+    }
+
+    @Test
+    void capIsAtLeastOneMillisecondOnceExpired() {
+        JiraDeadline.start(0);
+
+        assertTrue(JiraDeadline.isExpired());
+        assertEquals(1, JiraDeadline.cap(30000));
+    }
+
+    @Test
+    void callWithRestoresTheCallerDeadline() {
+        JiraDeadline.start(10000);
+        Long deadline = JiraDeadline.current();
+
+        assertNull(JiraDeadline.callWith(null, JiraDeadline::current));
+        assertEquals(deadline, JiraDeadline.current());
+    }
+
+    @Test
+    void wrapCarriesTheDeadlineToAnotherThread() throws Exception {
+        JiraDeadline.start(10000);
+        Long deadline = JiraDeadline.current();
+
+        assertEquals(deadline, CompletableFuture.supplyAsync(JiraDeadline.wrap(JiraDeadline::current))
+                .get(5, TimeUnit.SECONDS));
+        AtomicReference<Long> seen = new AtomicReference<>();
+        Runnable task = () -> seen.set(JiraDeadline.current());
+        CompletableFuture.runAsync(JiraDeadline.wrap(task)).get(5, TimeUnit.SECONDS);
+        assertEquals(deadline, seen.get());
+        // Sans échéance au moment de wrap : la tâche n'en a pas
+        JiraDeadline.clear();
+        assertNull(CompletableFuture.supplyAsync(JiraDeadline.wrap(JiraDeadline::current)).get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.test1.services.jira.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JiraRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void queuesCallsBeyondTheBurstAndRejectsPastTheDeadline() {
+        AtomicLong now = new AtomicLong();
+        JiraRateLimiter limiter = new JiraRateLimiter(10, 2, now::get);
+
+        assertEquals(0, limiter.reserve(SECOND));
+        assertEquals(0, limiter.reserve(SECOND));
+        // Seau vide : un jeton toutes les 100 ms, servis dans l'ordre des réservations
+        assertEquals(SECOND / 10, limiter.reserve(SECOND));
+        assertEquals(2 * SECOND / 10, limiter.reserve(SECOND));
+        assertEquals(-1, limiter.reserve(SECOND / 10));
+
+        now.addAndGet(SECOND);
+        assertEquals(0, limiter.reserve(0));
+    }
+
+    @Test
+    void retryAfterSuspendsCallsAndHeadersLowerTheRate() {
+        AtomicLong now = new AtomicLong();
+        JiraRateLimiter limiter = new JiraRateLimiter(10, 5, now::get);
+
+        limiter.onThrottled(3 * SECOND);
+        assertEquals(-1, limiter.reserve(SECOND));
+        assertEquals(3 * SECOND, limiter.reserve(5 * SECOND));
+
+        now.addAndGet(10 * SECOND);
+        limiter.onAccepted(-1, 2);
+        assertEquals(2.0, limiter.getPermitsPerSecond());
+
+        assertEquals(1, JiraRateLimitInterceptor.retryAfterNanos("1") / SECOND);
+        assertEquals(0, JiraRateLimitInterceptor.retryAfterNanos("abc"));
+    }
+
+    @Test
+    void longRetryAfterLeavesAtMostOneTokenWhenThePauseEnds() {
+        AtomicLong now = new AtomicLong();
+        // Seau plein (40 jetons) au moment du 429
+        JiraRateLimiter limiter = new JiraRateLimiter(20, 40, now::get);
+
+        // 30 s de pause : de quoi remplir le seau (2 s) plusieurs fois
+        limiter.onThrottled(30 * SECOND);
+        now.addAndGet(30 * SECOND);
+
+        assertEquals(0, limiter.reserve(0));
+        assertEquals(-1, limiter.reserve(0));
+        assertEquals(SECOND / 20, limiter.reserve(SECOND));
+    }
+
+    @Test
+    void callRejectedByTheBreakerKeepsItsToken() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // Seau d'un seul jeton, disjoncteur ouvert dès le premier échec
+        JiraRateLimitInterceptor rateLimit = new JiraRateLimitInterceptor(registry, true, 1, 1, 0);
+        JiraResilienceInterceptor resilience = new JiraResilienceInterceptor(
+                new MockEnvironment(), registry, 2, 1, 50, 30000, 1, 100);
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(Arrays.asList(rateLimit, resilience));
+        AnnotationAwareOrderComparator.sort(interceptors);
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(interceptors);
+        MockRestServiceServer.createServer(restTemplate);
+
+        resilience.onError(JiraEndpointClass.ISSUE);
+        assertThrows(JiraCallRejectedException.class,
+                () -> restTemplate.getForObject("http://jira/rest/api/2/issue/A-1", String.class));
+
+        assertEquals(0, rateLimit.getRateLimiter().reserve(0));
+    }
+}
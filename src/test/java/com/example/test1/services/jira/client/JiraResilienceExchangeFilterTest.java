@@ -0,0 +1,90 @@
+package com.example.test1.services.jira.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JiraResilienceExchangeFilterTest {
+
+    private static final ClientRequest SEARCH = ClientRequest
+            .create(HttpMethod.GET, URI.create("http://jira/rest/api/2/search?jql=x")).build();
+
+    @Test
+    void fullBulkheadQueuesCallsUntilAPlaceIsFree() {
+        JiraResilienceExchangeFilter filter = filter("1000");
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExchangeFunction jira = request -> Mono.defer(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return Mono.delay(Duration.ofMillis(50)).map(tick -> {
+                inFlight.decrementAndGet();
+                return ClientResponse.create(HttpStatus.OK).build();
+            });
+        });
+
+        // Cloison d'une place : les trois appels passent l'un après l'autre
+        Integer completed = Mono.zip(call(filter, jira), call(filter, jira), call(filter, jira))
+                .map(statuses -> statuses.getT1() + statuses.getT2() + statuses.getT3())
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(3 * 200, completed);
+        assertEquals(1, maxInFlight.get());
+    }
+
+    @Test
+    void waitingBeyondMaxWaitIsRejected() {
+        JiraResilienceExchangeFilter filter = filter("20");
+        ExchangeFunction slowJira = request -> Mono.delay(Duration.ofMillis(500))
+                .map(tick -> ClientResponse.create(HttpStatus.OK).build());
+
+        Mono<Integer> both = Mono.zip(call(filter, slowJira), call(filter, slowJira))
+                .map(statuses -> statuses.getT1() + statuses.getT2());
+
+        assertThrows(JiraCallRejectedException.class, () -> both.block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void timeoutCutShortByTheRequestDeadlineIsNotAFailure() {
+        // Un seul échec suffit à ouvrir le disjoncteur
+        JiraResilienceExchangeFilter filter = new JiraResilienceExchangeFilter(new JiraResilienceInterceptor(
+                new MockEnvironment(), new SimpleMeterRegistry(), 2, 1, 50, 30000, 1, 100));
+        ExchangeFunction timingOut = request -> Mono.error(new IllegalStateException("Read timed out"));
+        ExchangeFunction jira = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        ClientRequest expired = ClientRequest.from(SEARCH)
+                .attribute(JiraDeadline.ATTRIBUTE, System.nanoTime())
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> filter.filter(expired, timingOut).block(Duration.ofSeconds(5)));
+        assertEquals(200, call(filter, jira).block(Duration.ofSeconds(5)));
+
+        // Sans échéance dépassée, le même timeout ouvre le disjoncteur
+        assertThrows(IllegalStateException.class, () -> filter.filter(SEARCH, timingOut).block(Duration.ofSeconds(5)));
+        assertThrows(JiraCallRejectedException.class, () -> call(filter, jira).block(Duration.ofSeconds(5)));
+    }
+
+    private static JiraResilienceExchangeFilter filter(String maxWaitMs) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jira.bulkhead.async.search.max-concurrent", "1")
+                .withProperty("jira.bulkhead.search.max-wait-ms", maxWaitMs);
+        return new JiraResilienceExchangeFilter(new JiraResilienceInterceptor(
+                environment, new SimpleMeterRegistry(), 20, 10, 50, 30000, 3, 100));
+    }
+
+    private static Mono<Integer> call(JiraResilienceExchangeFilter filter, ExchangeFunction jira) {
+        return filter.filter(SEARCH, jira)
+                .flatMap(response -> response.releaseBody().thenReturn(response.rawStatusCode()));
+    }
+}